@@ -0,0 +1,377 @@
+package ar.wildstyle;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import ar.wildstyle.util.ReflectionUtils;
+import ar.wildstyle.valuegenerator.BooleanValueGenerator;
+import ar.wildstyle.valuegenerator.ByteValueGenerator;
+import ar.wildstyle.valuegenerator.CharacterValueGenerator;
+import ar.wildstyle.valuegenerator.DateValueGenerator;
+import ar.wildstyle.valuegenerator.DoubleValueGenerator;
+import ar.wildstyle.valuegenerator.EnumValueGenerator;
+import ar.wildstyle.valuegenerator.FloatValueGenerator;
+import ar.wildstyle.valuegenerator.IntegerValueGenerator;
+import ar.wildstyle.valuegenerator.LongValueGenerator;
+import ar.wildstyle.valuegenerator.ShortValueGenerator;
+import ar.wildstyle.valuegenerator.StringValueGenerator;
+import ar.wildstyle.valuegenerator.ValueGenerator;
+
+/**
+ * {@code DefaultFieldPlan} describes how the fields of a type are populated when an {@link ObjectGenerator} is registered with
+ * {@linkplain ObjectGeneratorBuilder#setAutoPopulate auto-population} enabled. Every instance field declared by the type or its parents
+ * that is not {@code final}, not synthetic and not declared by a JDK class is a candidate for auto-population.
+ * <p>
+ * Candidate fields whose type is {@code String}, a primitive or wrapper type, {@code Date} or an enum are mapped to a
+ * {@linkplain #getDefaultFieldMappingEntries default field mapping entry}, whose value generator is created with its default
+ * configuration. The remaining candidate fields are {@linkplain #getNestedFields nested fields}, which are only mapped to a
+ * {@linkplain #createNestedFieldMappingEntry nested field mapping entry} if an object generator is registered for the field's type, and are
+ * otherwise left alone. Nested values are generated at most {@link #MAX_NESTING_DEPTH} levels deep, so self-referencing types terminate.
+ * The plan for a type is built once and cached, so registering object generators for the same type does not use reflection again.
+ *
+ * @see FieldMapping#populate
+ *
+ * @author Adam Rosini
+ */
+final class DefaultFieldPlan {
+
+   /**
+    * The maximum number of nested values generated within each other on a thread by {@linkplain #createNestedFieldMappingEntry nested
+    * field mapping entries}. Deeper nested fields are set to {@code null}.
+    */
+   static final int MAX_NESTING_DEPTH = 4;
+
+   /**
+    * Returns the default field plan for the given type.
+    *
+    * @pre type != null
+    * @post return != null
+    */
+   static DefaultFieldPlan get(Class<?> type) {
+      assert type != null : "The 'type' parameter cannot be null.";
+
+      return DefaultFieldPlan.defaultFieldPlans.get(type);
+   }
+
+   /**
+    * Creates a new {@code DefaultFieldPlan} for the given type.
+    *
+    * @pre type != null
+    */
+   private DefaultFieldPlan(Class<?> type) {
+      final List<FieldMappingEntry<?>> defaultFieldMappingEntries = new ArrayList<>();
+      final List<Field> nestedFields = new ArrayList<>();
+
+      for (final Field field : ReflectionUtils.getFields(type)) {
+         final int modifiers = field.getModifiers();
+
+         // JDK classes are loaded by the bootstrap class loader, and their fields are left alone.
+         if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic()
+            || field.getDeclaringClass().getClassLoader() == null) {
+            continue;
+         }
+
+         final ValueGenerator<?> valueGenerator = DefaultFieldPlan.createDefaultValueGenerator(field.getType());
+         if (valueGenerator != null) {
+            defaultFieldMappingEntries.add(DefaultFieldPlan.createFieldMappingEntry(field, valueGenerator));
+         }
+         else if (!field.getType().isPrimitive()) {
+            nestedFields.add(field);
+         }
+      }
+
+      this.defaultFieldMappingEntries = Collections.unmodifiableList(defaultFieldMappingEntries);
+      this.nestedFields = Collections.unmodifiableList(nestedFields);
+   }
+
+   /**
+    * Returns the field mapping entries for the candidate fields that have a default value generator, in the order returned by
+    * {@link ReflectionUtils#getFields(Class)}.
+    *
+    * @post return != null
+    */
+   List<FieldMappingEntry<?>> getDefaultFieldMappingEntries() {
+      return this.defaultFieldMappingEntries;
+   }
+
+   /**
+    * Returns the candidate fields that do not have a default value generator, in the order returned by
+    * {@link ReflectionUtils#getFields(Class)}.
+    *
+    * @post return.stream().noneMatch(f -> f.getType().isPrimitive())
+    */
+   List<Field> getNestedFields() {
+      return this.nestedFields;
+   }
+
+   /**
+    * Returns a new field mapping entry between the given field and value generator. The type parameter is named here so that the value
+    * generator is not mistaken for a value of the field.
+    *
+    * @pre ReflectionUtils.isCompatible(field, valueGenerator)
+    */
+   static <V> FieldMappingEntry<V> createFieldMappingEntry(Field field, ValueGenerator<V> valueGenerator) {
+      // Precondition(s) asserted by the call to "new FieldMappingEntry<V>(...)".
+      return new FieldMappingEntry<V>(field, valueGenerator);
+   }
+
+   /**
+    * Returns a new field mapping entry between the given nested field and a value generator which generates values with the object
+    * generator registered with the field's type and the {@linkplain ObjectGenerator#DEFAULT_NAME default object generator name}. The
+    * object generator is looked up through a {@linkplain GeneratorHandle generator handle} whenever a value is generated, so it may be
+    * replaced after the field mapping entry is created. The field is set to {@code null} if no such object generator is registered when
+    * a value is generated, or if {@link #MAX_NESTING_DEPTH} nested values are already being generated on the current thread.
+    *
+    * @pre !field.getType().isPrimitive()
+    */
+   static FieldMappingEntry<?> createNestedFieldMappingEntry(Field field) {
+      assert !field.getType().isPrimitive() : String.format("The '%s' field cannot be primitive.", field.getName());
+
+      return DefaultFieldPlan.createFieldMappingEntry(field, DefaultFieldPlan.createNestedValueGenerator(field.getType()));
+   }
+
+   /**
+    * Returns a new nested value generator for the given field type. The type parameter is named here so that the generator handle has
+    * the same value type as the nested value generator.
+    *
+    * @pre fieldType != null
+    */
+   private static <V> ValueGenerator<V> createNestedValueGenerator(Class<V> fieldType) {
+      // Precondition(s) asserted by the call to "WildstyleGenerator.getGeneratorHandle(...)".
+      return new NestedValueGenerator<V>(WildstyleGenerator.getGeneratorHandle(fieldType));
+   }
+
+   /**
+    * Returns a new value generator with its default configuration which generates values of the given field type, or {@code null} if
+    * there is no default value generator for the given field type.
+    *
+    * @pre fieldType != null
+    */
+   private static ValueGenerator<?> createDefaultValueGenerator(Class<?> fieldType) {
+      if (fieldType.equals(String.class)) {
+         return new StringValueGenerator();
+      }
+
+      else if (fieldType.equals(Boolean.class) || fieldType.equals(Boolean.TYPE)) {
+         return new BooleanValueGenerator();
+      }
+
+      else if (fieldType.equals(Byte.class) || fieldType.equals(Byte.TYPE)) {
+         return new ByteValueGenerator();
+      }
+
+      else if (fieldType.equals(Character.class) || fieldType.equals(Character.TYPE)) {
+         return new CharacterValueGenerator();
+      }
+
+      else if (fieldType.equals(Double.class) || fieldType.equals(Double.TYPE)) {
+         return new DoubleValueGenerator();
+      }
+
+      else if (fieldType.equals(Float.class) || fieldType.equals(Float.TYPE)) {
+         return new FloatValueGenerator();
+      }
+
+      else if (fieldType.equals(Integer.class) || fieldType.equals(Integer.TYPE)) {
+         return new IntegerValueGenerator();
+      }
+
+      else if (fieldType.equals(Long.class) || fieldType.equals(Long.TYPE)) {
+         return new LongValueGenerator();
+      }
+
+      else if (fieldType.equals(Short.class) || fieldType.equals(Short.TYPE)) {
+         return new ShortValueGenerator();
+      }
+
+      else if (fieldType.equals(Date.class)) {
+         return new DateValueGenerator();
+      }
+
+      else if (fieldType.isEnum() && fieldType.getEnumConstants().length > 0) {
+         return DefaultFieldPlan.createEnumValueGenerator(fieldType.asSubclass(Enum.class));
+      }
+
+      return null;
+   }
+
+   /**
+    * Returns a new enum value generator for the given enum type.
+    *
+    * @pre enumType.getEnumConstants().length > 0
+    */
+   @SuppressWarnings({ "unchecked", "rawtypes" })
+   private static ValueGenerator<?> createEnumValueGenerator(Class<? extends Enum> enumType) {
+      // The enum type's own type parameter cannot be named here, so the enum value generator is created with a raw type.
+      return new EnumValueGenerator(enumType, false);
+   }
+
+   /**
+    * {@code NestedValueGenerator} generates values using the object generator its generator handle points at when each value is
+    * generated, or {@code null} if there is none or the {@linkplain DefaultFieldPlan#MAX_NESTING_DEPTH maximum nesting depth} has been
+    * reached. Since the object generator may be replaced or generate null values, it is only {@linkplain ValueGenerator#NULLABLE
+    * nullable}.
+    */
+   private static final class NestedValueGenerator<V> implements ValueGenerator<V> {
+
+      /**
+       * Creates a new {@code NestedValueGenerator} which generates values using the given generator handle.
+       *
+       * @pre generatorHandle != null
+       */
+      NestedValueGenerator(GeneratorHandle<V> generatorHandle) {
+         assert generatorHandle != null : "The 'generatorHandle' parameter cannot be null.";
+
+         this.generatorHandle = generatorHandle;
+         this.random = null;
+         this.splitObjectGenerator = null;
+      }
+
+      /**
+       * Creates a new {@code NestedValueGenerator} which generates values using the given generator handle, whose object generator is
+       * {@linkplain ObjectGenerator#split split} with the given splittable random the first time a value is generated.
+       *
+       * @pre generatorHandle != null
+       * @pre random != null
+       */
+      private NestedValueGenerator(GeneratorHandle<V> generatorHandle, SplittableRandom random) {
+         this.generatorHandle = generatorHandle;
+         this.random = random;
+         this.splitObjectGenerator = null;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public V generateValue() {
+         final int[] depth = NestedValueGenerator.nestingDepth.get();
+         if (depth[0] >= DefaultFieldPlan.MAX_NESTING_DEPTH) {
+            return null;
+         }
+
+         final ObjectGenerator<V> objectGenerator = this.getObjectGenerator();
+         if (objectGenerator == null) {
+            return null;
+         }
+
+         depth[0]++;
+         try {
+            return objectGenerator.generateValue();
+         }
+         finally {
+            depth[0]--;
+         }
+      }
+
+      /**
+       * Returns the object generator used to generate values, which is the object generator the generator handle points at, split with
+       * {@code random} the first time if this nested value generator was split, or {@code null} if there is none.
+       */
+      private ObjectGenerator<V> getObjectGenerator() {
+         if (this.random == null) {
+            return this.generatorHandle.getObjectGenerator();
+         }
+
+         if (this.splitObjectGenerator == null) {
+            final ObjectGenerator<V> objectGenerator = this.generatorHandle.getObjectGenerator();
+            this.splitObjectGenerator = objectGenerator == null ? null : objectGenerator.split(this.random);
+         }
+
+         return this.splitObjectGenerator;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Class<V> getValueType() {
+         return this.generatorHandle.getValueType();
+      }
+
+      /**
+       * {@inheritDoc}
+       * <p>
+       * The split value generator splits the registered object generator with a splittable random split from the given one, so that
+       * parallel generation is reproducible. The object generator is only split when the split value generator first generates a value,
+       * so splitting an object generator of a self-referencing type does not recurse.
+       */
+      @Override
+      public ValueGenerator<V> split(SplittableRandom random) {
+         assert random != null : "The 'random' parameter cannot be null.";
+
+         return new NestedValueGenerator<V>(this.generatorHandle, random.split());
+      }
+
+      /**
+       * {@inheritDoc}
+       *
+       * @post return == ValueGenerator.NULLABLE
+       */
+      @Override
+      public int characteristics() {
+         return ValueGenerator.NULLABLE;
+      }
+
+      /**
+       * The generator handle used to look up the object generator which generates values.
+       *
+       * @invariant generatorHandle != null
+       */
+      private final GeneratorHandle<V> generatorHandle;
+
+      /**
+       * The splittable random used to split the object generator of a split nested value generator, or {@code null} if this nested value
+       * generator was not split. Split value generators are confined to one thread, so it is used without synchronization.
+       */
+      private final SplittableRandom random;
+
+      /**
+       * The object generator split with {@code random}, or {@code null} if it has not been split yet.
+       */
+      private ObjectGenerator<V> splitObjectGenerator;
+
+      /**
+       * The number of nested values being generated within each other on each thread.
+       *
+       * @invariant nestingDepth.get()[0] >= 0
+       */
+      private static final ThreadLocal<int[]> nestingDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+   }
+
+   /**
+    * The field mapping entries for the candidate fields that have a default value generator.
+    *
+    * @invariant defaultFieldMappingEntries != null
+    */
+   private final List<FieldMappingEntry<?>> defaultFieldMappingEntries;
+
+   /**
+    * The candidate fields that do not have a default value generator.
+    *
+    * @invariant nestedFields != null
+    */
+   private final List<Field> nestedFields;
+
+   /**
+    * The default field plan of each type that has been auto-populated. Since the plans are held by a {@link ClassValue}, they do not
+    * prevent the type from being unloaded.
+    *
+    * @invariant defaultFieldPlans != null
+    */
+   private static final ClassValue<DefaultFieldPlan> defaultFieldPlans = new ClassValue<DefaultFieldPlan>() {
+
+      @Override
+      protected DefaultFieldPlan computeValue(Class<?> type) {
+         return new DefaultFieldPlan(type);
+      }
+
+   };
+
+}
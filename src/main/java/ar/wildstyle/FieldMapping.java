@@ -1,8 +1,11 @@
 package ar.wildstyle;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import ar.wildstyle.exception.AlreadyMappedException;
@@ -19,6 +22,7 @@ public class FieldMapping<T> implements Iterable<FieldMappingEntry<?>> {
 
    /**
     * Merges the two field mappings together such that the entries in field mapping A take precedence over the entries in field mapping B.
+    * The returned field mapping is a copy, which is not affected by later changes to either field mapping.
     *
     * @pre fieldMappingA != null
     * @pre fieldMappingB != null
@@ -28,8 +32,12 @@ public class FieldMapping<T> implements Iterable<FieldMappingEntry<?>> {
       assert fieldMappingB != null : "The 'fieldMappingB' parameter cannot be null.";
 
       final FieldMapping<A> fieldMapping = new FieldMapping<A>(fieldMappingA.getType());
-      fieldMapping.fieldMap.putAll(fieldMappingB.fieldMap);
-      fieldMapping.fieldMap.putAll(fieldMappingA.fieldMap);
+      for (final FieldMappingEntry<?> fieldMappingEntry : fieldMappingB) {
+         fieldMapping.fieldMap.put(fieldMappingEntry.getField(), fieldMappingEntry);
+      }
+      for (final FieldMappingEntry<?> fieldMappingEntry : fieldMappingA) {
+         fieldMapping.fieldMap.put(fieldMappingEntry.getField(), fieldMappingEntry);
+      }
 
       return fieldMapping;
    }
@@ -44,6 +52,20 @@ public class FieldMapping<T> implements Iterable<FieldMappingEntry<?>> {
 
       this.type = type;
       this.fieldMap = new HashMap<>();
+      this.parent = null;
+   }
+
+   /**
+    * Creates a new {@code FieldMapping} for the given class or type, with the given map of fields to field mapping entries and the given
+    * parent field mapping. This constructor is only for internal use.
+    *
+    * @pre type != null
+    * @pre fieldMap != null
+    */
+   private FieldMapping(Class<T> type, Map<Field, FieldMappingEntry<?>> fieldMap, FieldMapping<? super T> parent) {
+      this.type = type;
+      this.fieldMap = fieldMap;
+      this.parent = parent;
    }
 
    /**
@@ -98,7 +120,8 @@ public class FieldMapping<T> implements Iterable<FieldMappingEntry<?>> {
     * Finds the first unmapped {@linkplain Field field} in the class hierarchy that matches the given field name and is
     * {@linkplain ReflectionUtils#isCompatible(Field, Class) compatible} with the given type, starting from this field mapping's
     * {@linkplain #getType type} and progressing {@linkplain Class#getSuperclass upwards} in the class hierarchy. A {@code null} type
-    * parameter indicates that the field must be compatible with a {@code null} value.
+    * parameter indicates that the field must be compatible with a {@code null} value. The candidate fields are taken from the
+    * {@linkplain ReflectionUtils#getFields(Class, String) cached field index} of the type, so no reflection is used.
     *
     * @throws NoSuchFieldException if no field with the given field name that is compatible with the given type exists in this field mapping
     *            type's hierarchy
@@ -112,36 +135,20 @@ public class FieldMapping<T> implements Iterable<FieldMappingEntry<?>> {
       assert fieldName != null : "The 'fieldName' parameter cannot be null.";
       assert !fieldName.isEmpty() : "The 'fieldName' parameter cannot be empty.";
 
-      Field field = null;
       boolean alreadyMapped = false;
-      Class<?> currentType = this.type;
-
-      // Loop upwards in the class hierarchy until the field is found.
-      while (currentType != Object.class) {
-         try {
-            // Check if the current type has a field with a matching name.
-            field = currentType.getDeclaredField(fieldName);
-
-            // If the field has already been mapped, continue to the next class in the hierarchy.
-            if (this.fieldMap.containsKey(field)) {
-               alreadyMapped = true;
-               field = null;
-               currentType = currentType.getSuperclass();
-               continue;
-            }
-
-            // If the field is compatible with type, this field should be returned.
-            if (ReflectionUtils.isCompatible(field, type)) {
-               alreadyMapped = false;
-               break;
-            }
-         }
-         catch (final NoSuchFieldException e) {
+
+      // Check the fields with a matching name, from this field mapping's type upwards in the class hierarchy.
+      for (final Field field : ReflectionUtils.getFields(this.type, fieldName)) {
+         // If the field has already been mapped, continue to the next field in the hierarchy.
+         if (this.getEntry(field) != null) {
+            alreadyMapped = true;
+            continue;
          }
 
-         // Check the next class in the hierarchy.
-         field = null;
-         currentType = currentType.getSuperclass();
+         // If the field is compatible with type, this field should be returned.
+         if (ReflectionUtils.isCompatible(field, type)) {
+            return field;
+         }
       }
 
       // If the field was already mapped, throw an exception.
@@ -151,14 +158,91 @@ public class FieldMapping<T> implements Iterable<FieldMappingEntry<?>> {
             fieldName, type == null ? null : type.getName()));
       }
 
-      // If the field was not found, throw an exception.
-      if (field == null) {
-         throw new NoSuchFieldException(String.format(
-            "Could not find a field named '%s' that is assignable from '%s' for the '%s' class or any of its parents.",
-            fieldName, type == null ? null : type.getName(), this.getType().getName()));
+      // Otherwise the field was not found.
+      throw new NoSuchFieldException(String.format(
+         "Could not find a field named '%s' that is assignable from '%s' for the '%s' class or any of its parents.",
+         fieldName, type == null ? null : type.getName(), this.getType().getName()));
+   }
+
+   /**
+    * Returns a copy of this field mapping in which every field that is neither mapped by this field mapping nor by the given parent field
+    * mapping is mapped as described by the {@linkplain DefaultFieldPlan default field plan} of this field mapping's type. Nested fields
+    * are only {@linkplain DefaultFieldPlan#createNestedFieldMappingEntry mapped} if an object generator is registered with the field's
+    * type and the {@linkplain ObjectGenerator#DEFAULT_NAME default object generator name} at the time of the call, and the object generator
+    * registered then or afterwards is looked up when each value is generated. The entries of this field mapping are kept as-is.
+    *
+    * @pre // this field mapping does not have a parent field mapping
+    */
+   FieldMapping<T> populate(FieldMapping<? super T> parent) {
+      assert this.parent == null : "Only field mappings without a parent field mapping can be populated.";
+
+      final DefaultFieldPlan defaultFieldPlan = DefaultFieldPlan.get(this.type);
+      final FieldMapping<T> fieldMapping = new FieldMapping<>(this.type);
+
+      for (final FieldMappingEntry<?> fieldMappingEntry : defaultFieldPlan.getDefaultFieldMappingEntries()) {
+         final Field field = fieldMappingEntry.getField();
+         if (parent == null || parent.getEntry(field) == null) {
+            fieldMapping.fieldMap.put(field, fieldMappingEntry);
+         }
+      }
+
+      for (final Field field : defaultFieldPlan.getNestedFields()) {
+         if (WildstyleGenerator.getObjectGenerator(field.getType()) != null && (parent == null || parent.getEntry(field) == null)) {
+            fieldMapping.fieldMap.put(field, DefaultFieldPlan.createNestedFieldMappingEntry(field));
+         }
       }
 
-      return field;
+      fieldMapping.fieldMap.putAll(this.fieldMap);
+
+      return fieldMapping;
+   }
+
+   /**
+    * Returns an immutable copy of this field mapping, layered on top of the given parent field mapping. The entries of the copy take
+    * precedence over the entries of the parent field mapping, as if the two were {@linkplain #merge merged}, but the parent field mapping's
+    * entries are shared rather than copied, so a chain of field mappings only holds each entry once. The entries of the copy are resolved:
+    * every {@linkplain FieldMappingEntry#isConstant constant} entry is {@linkplain FieldMappingEntry#toConstant converted} to a constant
+    * value here, so field mappings layered on top of the copy share the value rather than generating their own.
+    *
+    * @pre // this field mapping does not have a parent field mapping
+    * @post // return.map(...) throws an UnsupportedOperationException
+    */
+   FieldMapping<T> freeze(FieldMapping<? super T> parent) {
+      assert this.parent == null : "Only field mappings without a parent field mapping can be frozen.";
+
+      final Map<Field, FieldMappingEntry<?>> fieldMap = new HashMap<>();
+      for (final FieldMappingEntry<?> fieldMappingEntry : this.fieldMap.values()) {
+         fieldMap.put(fieldMappingEntry.getField(), fieldMappingEntry.isConstant() ? fieldMappingEntry.toConstant() : fieldMappingEntry);
+      }
+
+      return new FieldMapping<T>(this.type, Collections.unmodifiableMap(fieldMap), parent);
+   }
+
+   /**
+    * Returns the entries of this field mapping ordered by the position of their fields in this field mapping's {@linkplain #getType type}
+    * hierarchy. Entries for fields declared by a class come before entries for fields declared by its subclasses, and entries for fields
+    * declared by the same class are in the order returned by {@link ReflectionUtils#getFields(Class)}, which is their declaration order in
+    * practice.
+    * The order does not depend on the order in which fields were mapped, so it is the same every time.
+    *
+    * @pre // every entry's field is declared by this field mapping's type or one of its parents
+    * @post // return contains every entry in this field mapping exactly once
+    */
+   FieldMappingEntry<?>[] toOrderedArray() {
+      final FieldMappingEntry<?>[] fieldMappingEntries = new FieldMappingEntry<?>[this.size()];
+      int count = 0;
+
+      for (final Field field : ReflectionUtils.getFields(this.type)) {
+         final FieldMappingEntry<?> fieldMappingEntry = this.getEntry(field);
+         if (fieldMappingEntry != null) {
+            fieldMappingEntries[count++] = fieldMappingEntry;
+         }
+      }
+
+      assert count == fieldMappingEntries.length : String.format(
+         "Not every field in the field mapping is declared by '%s' or any of its parents.", this.type.getName());
+
+      return fieldMappingEntries;
    }
 
    /**
@@ -168,7 +252,19 @@ public class FieldMapping<T> implements Iterable<FieldMappingEntry<?>> {
     */
    @Override
    public Iterator<FieldMappingEntry<?>> iterator() {
-      return this.fieldMap.values().iterator();
+      if (this.parent == null) {
+         return this.fieldMap.values().iterator();
+      }
+
+      // Iterate over this field mapping's entries, followed by the parent field mapping's entries that are not overridden.
+      final List<FieldMappingEntry<?>> fieldMappingEntries = new ArrayList<>(this.fieldMap.values());
+      for (final FieldMappingEntry<?> fieldMappingEntry : this.parent) {
+         if (!this.fieldMap.containsKey(fieldMappingEntry.getField())) {
+            fieldMappingEntries.add(fieldMappingEntry);
+         }
+      }
+
+      return Collections.unmodifiableList(fieldMappingEntries).iterator();
    }
 
    /**
@@ -180,6 +276,40 @@ public class FieldMapping<T> implements Iterable<FieldMappingEntry<?>> {
       return this.type;
    }
 
+   /**
+    * Returns the entry for the given field in this field mapping or its parent field mappings, or {@code null} if the field is not mapped.
+    */
+   private FieldMappingEntry<?> getEntry(Field field) {
+      for (FieldMapping<?> fieldMapping = this; fieldMapping != null; fieldMapping = fieldMapping.parent) {
+         final FieldMappingEntry<?> fieldMappingEntry = fieldMapping.fieldMap.get(field);
+         if (fieldMappingEntry != null) {
+            return fieldMappingEntry;
+         }
+      }
+
+      return null;
+   }
+
+   /**
+    * Returns the number of mapped fields in this field mapping and its parent field mappings.
+    *
+    * @post return >= 0
+    */
+   private int size() {
+      if (this.parent == null) {
+         return this.fieldMap.size();
+      }
+
+      int size = this.fieldMap.size() + this.parent.size();
+      for (final Field field : this.fieldMap.keySet()) {
+         if (this.parent.getEntry(field) != null) {
+            size--;
+         }
+      }
+
+      return size;
+   }
+
    /**
     * The class or type associated with this field mapping.
     *
@@ -194,4 +324,12 @@ public class FieldMapping<T> implements Iterable<FieldMappingEntry<?>> {
     */
    private final Map<Field, FieldMappingEntry<?>> fieldMap;
 
+   /**
+    * The field mapping whose entries are shared by this field mapping, or {@code null} if this field mapping does not have one. Only
+    * {@linkplain #freeze frozen} field mappings have a parent field mapping.
+    *
+    * @invariant parent == null || parent.getType().isAssignableFrom(type)
+    */
+   private final FieldMapping<? super T> parent;
+
 }
@@ -1,6 +1,8 @@
 package ar.wildstyle;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
+import java.util.SplittableRandom;
 
 import ar.wildstyle.util.ReflectionUtils;
 import ar.wildstyle.valuegenerator.ValueGenerator;
@@ -22,6 +24,8 @@ class FieldMappingEntry<V> {
       assert ReflectionUtils.isCompatible(field, valueGenerator);
 
       this.field = field;
+      this.setter = ReflectionUtils.findSetter(field);
+      this.primitiveSetter = FieldMappingEntry.findPrimitiveSetter(field, valueGenerator);
       this.value = null;
       this.valueGenerator = valueGenerator;
    }
@@ -35,10 +39,27 @@ class FieldMappingEntry<V> {
       assert ReflectionUtils.isCompatible(field, value);
 
       this.field = field;
+      this.setter = ReflectionUtils.findSetter(field);
+      this.primitiveSetter = null;
       this.value = value;
       this.valueGenerator = null;
    }
 
+   /**
+    * Creates a new {@code FieldMappingEntry} between the given field and the given value or value generator, which uses the given
+    * resolved setters. This constructor is only for internal use.
+    *
+    * @pre field != null
+    * @pre setter != null
+    */
+   private FieldMappingEntry(Field field, MethodHandle setter, MethodHandle primitiveSetter, V value, ValueGenerator<V> valueGenerator) {
+      this.field = field;
+      this.setter = setter;
+      this.primitiveSetter = primitiveSetter;
+      this.value = value;
+      this.valueGenerator = valueGenerator;
+   }
+
    /**
     * Returns the field associated with this field mapping entry.
     *
@@ -59,6 +80,224 @@ class FieldMappingEntry<V> {
       return this.valueGenerator == null ? this.value : this.valueGenerator.generateValue();
    }
 
+   /**
+    * Returns the {@linkplain ValueGenerator#characteristics characteristics} of the values returned by {@link #getOrGenerateValue}. If this
+    * field mapping entry was constructed with a value generator, these are the value generator's characteristics. If this field mapping
+    * entry was constructed with a value, the value is {@linkplain ValueGenerator#CONSTANT constant}.
+    */
+   public int characteristics() {
+      if (this.valueGenerator != null) {
+         return this.valueGenerator.characteristics();
+      }
+
+      final int characteristics =
+         ValueGenerator.CONSTANT | ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC;
+      return this.value == null ? characteristics | ValueGenerator.NULLABLE : characteristics;
+   }
+
+   /**
+    * Returns true if {@link #getOrGenerateValue} always returns the same value, which is the case if this field mapping entry was
+    * constructed with a value, or with a {@linkplain ValueGenerator#CONSTANT constant} value generator.
+    */
+   public boolean isConstant() {
+      return this.valueGenerator == null || this.valueGenerator.hasCharacteristics(ValueGenerator.CONSTANT);
+   }
+
+   /**
+    * Returns a field mapping entry between the same field and the value returned by {@link #getOrGenerateValue}, which shares this field
+    * mapping entry's resolved setter. If this field mapping entry was constructed with a value, it is returned as-is.
+    *
+    * @pre this.isConstant()
+    * @post return.getField().equals(this.getField())
+    * @post return.isConstant()
+    */
+   public FieldMappingEntry<V> toConstant() {
+      assert this.isConstant() : "Only constant field mapping entries can be converted to a constant value.";
+
+      if (this.valueGenerator == null) {
+         return this;
+      }
+
+      return new FieldMappingEntry<V>(this.field, this.setter, null, this.valueGenerator.generateValue(), null);
+   }
+
+   /**
+    * Sets the field associated with this field mapping entry on the given object to the value returned by {@link #getOrGenerateValue}. The
+    * field is written through a setter resolved when this field mapping entry was created, rather than through reflection. The value is not
+    * checked for compatibility with the field, since that is checked once when this field mapping entry is created.
+    *
+    * @throws IllegalArgumentException if the value could not be assigned to the field
+    *
+    * @pre this.getField().getDeclaringClass().isAssignableFrom(object.getClass())
+    */
+   public void setField(Object object) {
+      if (this.primitiveSetter != null) {
+         this.invokePrimitiveSetter(object);
+      }
+      else {
+         this.invokeSetter(object, this.getOrGenerateValue());
+      }
+   }
+
+   /**
+    * Sets the field associated with this field mapping entry on every non-null object in the given array, as if by calling
+    * {@link #setField} for each of them in order. Whether a value is constant or generated is decided once for the whole array, rather than
+    * once per object.
+    *
+    * @throws IllegalArgumentException if a value could not be assigned to the field
+    *
+    * @pre objects != null
+    * @pre // Arrays.stream(objects).allMatch(o -> o == null || this.getField().getDeclaringClass().isAssignableFrom(o.getClass()))
+    */
+   public void setFields(Object[] objects) {
+      assert objects != null : "The 'objects' parameter cannot be null.";
+
+      if (this.valueGenerator == null) {
+         for (final Object object : objects) {
+            if (object != null) {
+               this.invokeSetter(object, this.value);
+            }
+         }
+      }
+      else if (this.primitiveSetter != null) {
+         for (final Object object : objects) {
+            if (object != null) {
+               this.invokePrimitiveSetter(object);
+            }
+         }
+      }
+      else {
+         for (final Object object : objects) {
+            if (object != null) {
+               this.invokeSetter(object, this.valueGenerator.generateValue());
+            }
+         }
+      }
+   }
+
+   /**
+    * Returns a field mapping entry between the same field and value as this field mapping entry, whose value generator (if any) is
+    * {@linkplain ValueGenerator#split split} from this field mapping entry's value generator using the given splittable random. The
+    * resolved setter is shared between both field mapping entries.
+    *
+    * @pre random != null
+    * @post return.getField().equals(this.getField())
+    */
+   public FieldMappingEntry<V> split(SplittableRandom random) {
+      assert random != null : "The 'random' parameter cannot be null.";
+
+      // A constant value generator which may be shared between threads generates the same values whether it is split or not.
+      if (this.valueGenerator == null || this.valueGenerator.hasCharacteristics(ValueGenerator.CONSTANT | ValueGenerator.CONCURRENT)) {
+         return this;
+      }
+
+      final ValueGenerator<V> valueGenerator = this.valueGenerator.split(random);
+      // The primitive setter only needs to be found again if the split value generator is of a different class.
+      final MethodHandle primitiveSetter = valueGenerator.getClass().equals(this.valueGenerator.getClass()) ? this.primitiveSetter
+         : FieldMappingEntry.findPrimitiveSetter(this.field, valueGenerator);
+
+      return new FieldMappingEntry<V>(this.field, this.setter, primitiveSetter, null, valueGenerator);
+   }
+
+   /**
+    * Returns a setter which assigns primitive values to the given field, if the given field is primitive and the given value generator can
+    * generate values of the field's primitive type without boxing them, otherwise returns null.
+    *
+    * @pre field != null
+    * @pre valueGenerator != null
+    * @post return == null || return.type().equals(MethodType.methodType(void.class, Object.class, field.getType()))
+    */
+   private static MethodHandle findPrimitiveSetter(Field field, ValueGenerator<?> valueGenerator) {
+      final Class<?> fieldType = field.getType();
+
+      final boolean primitiveValueGenerator =
+         (fieldType.equals(Boolean.TYPE) && valueGenerator instanceof ValueGenerator.OfBoolean)
+            || (fieldType.equals(Byte.TYPE) && valueGenerator instanceof ValueGenerator.OfByte)
+            || (fieldType.equals(Character.TYPE) && valueGenerator instanceof ValueGenerator.OfChar)
+            || (fieldType.equals(Double.TYPE) && valueGenerator instanceof ValueGenerator.OfDouble)
+            || (fieldType.equals(Float.TYPE) && valueGenerator instanceof ValueGenerator.OfFloat)
+            || (fieldType.equals(Integer.TYPE) && valueGenerator instanceof ValueGenerator.OfInt)
+            || (fieldType.equals(Long.TYPE) && valueGenerator instanceof ValueGenerator.OfLong)
+            || (fieldType.equals(Short.TYPE) && valueGenerator instanceof ValueGenerator.OfShort);
+
+      return primitiveValueGenerator ? ReflectionUtils.findPrimitiveSetter(field) : null;
+   }
+
+   /**
+    * Sets the primitive field associated with this field mapping entry on the given object to a primitive value generated by the value
+    * generator, using the resolved primitive setter, so that the value is never boxed.
+    *
+    * @throws IllegalArgumentException if the value could not be assigned to the field
+    *
+    * @pre this.primitiveSetter != null
+    */
+   private void invokePrimitiveSetter(Object object) {
+      final Class<?> fieldType = this.field.getType();
+
+      try {
+         if (fieldType.equals(Integer.TYPE)) {
+            this.primitiveSetter.invokeExact(object, ((ValueGenerator.OfInt)this.valueGenerator).generateInt());
+         }
+
+         else if (fieldType.equals(Long.TYPE)) {
+            this.primitiveSetter.invokeExact(object, ((ValueGenerator.OfLong)this.valueGenerator).generateLong());
+         }
+
+         else if (fieldType.equals(Double.TYPE)) {
+            this.primitiveSetter.invokeExact(object, ((ValueGenerator.OfDouble)this.valueGenerator).generateDouble());
+         }
+
+         else if (fieldType.equals(Boolean.TYPE)) {
+            this.primitiveSetter.invokeExact(object, ((ValueGenerator.OfBoolean)this.valueGenerator).generateBoolean());
+         }
+
+         else if (fieldType.equals(Byte.TYPE)) {
+            this.primitiveSetter.invokeExact(object, ((ValueGenerator.OfByte)this.valueGenerator).generateByte());
+         }
+
+         else if (fieldType.equals(Character.TYPE)) {
+            this.primitiveSetter.invokeExact(object, ((ValueGenerator.OfChar)this.valueGenerator).generateChar());
+         }
+
+         else if (fieldType.equals(Float.TYPE)) {
+            this.primitiveSetter.invokeExact(object, ((ValueGenerator.OfFloat)this.valueGenerator).generateFloat());
+         }
+
+         else if (fieldType.equals(Short.TYPE)) {
+            this.primitiveSetter.invokeExact(object, ((ValueGenerator.OfShort)this.valueGenerator).generateShort());
+         }
+      }
+      catch (final RuntimeException e) {
+         throw new IllegalArgumentException(e.getMessage(), e);
+      }
+      catch (final Error e) {
+         throw e;
+      }
+      catch (final Throwable t) {
+         throw new IllegalStateException(t);
+      }
+   }
+
+   /**
+    * Sets the field associated with this field mapping entry on the given object to the given value, using the resolved setter.
+    *
+    * @throws IllegalArgumentException if the value could not be assigned to the field
+    */
+   private void invokeSetter(Object object, Object value) {
+      try {
+         this.setter.invokeExact(object, value);
+      }
+      catch (final RuntimeException e) {
+         throw new IllegalArgumentException(e.getMessage(), e);
+      }
+      catch (final Error e) {
+         throw e;
+      }
+      catch (final Throwable t) {
+         throw new IllegalStateException(t);
+      }
+   }
+
    /**
     * The field associated with this field mapping entry.
     *
@@ -66,6 +305,21 @@ class FieldMappingEntry<V> {
     */
    private final Field field;
 
+   /**
+    * The setter used to assign values to the field associated with this field mapping entry.
+    *
+    * @invariant setter.type().equals(MethodType.methodType(void.class, Object.class, Object.class))
+    */
+   private final MethodHandle setter;
+
+   /**
+    * The setter used to assign primitive values to the field associated with this field mapping entry, if the field is primitive and the
+    * value generator can generate primitive values of the field's type, otherwise null.
+    *
+    * @invariant primitiveSetter == null || primitiveSetter.type().equals(MethodType.methodType(void.class, Object.class, field.getType()))
+    */
+   private final MethodHandle primitiveSetter;
+
    /**
     * The value associated with this field mapping entry.
     *
@@ -0,0 +1,121 @@
+package ar.wildstyle;
+
+/**
+ * {@code GeneratorHandle} points at the {@link ObjectGenerator} registered with a given
+ * {@linkplain ObjectGenerator#getValueType value type} and {@linkplain ObjectGenerator#getName name}. A generator handle is obtained once
+ * from {@link WildstyleGenerator#getGeneratorHandle}, after which objects can be {@linkplain #generate generated} without looking the
+ * object generator up in the registry again.
+ * <p>
+ * The registry holds one generator handle for each registered value type and name. If an object generator is registered with the same
+ * value type and name as a generator handle in the registry, the generator handle is updated to point at the newly registered object
+ * generator. A generator handle which is not in the registry, because it was obtained before an object generator was registered or
+ * because the registry was {@linkplain WildstyleGenerator#clearRegistry cleared} since, looks up the object generator registered with
+ * its value type and name whenever it is used, so it stays valid without the registry holding on to it.
+ *
+ * @see WildstyleGenerator
+ *
+ * @author Adam Rosini
+ */
+public class GeneratorHandle<T> {
+
+   /**
+    * Creates a new {@code GeneratorHandle} for the given value type and name, which does not point at an object generator.
+    *
+    * @pre valueType != null
+    * @pre !name.isEmpty()
+    */
+   GeneratorHandle(Class<T> valueType, String name) {
+      assert valueType != null : "The 'valueType' parameter cannot be null.";
+      assert name != null : "The 'name' parameter cannot be null.";
+      assert !name.isEmpty() : "The 'name' parameter cannot be empty.";
+
+      this.valueType = valueType;
+      this.name = name;
+      this.objectGenerator = null;
+   }
+
+   /**
+    * Generates an object using the object generator this generator handle currently points at.
+    *
+    * @pre isRegistered()
+    */
+   public T generate() {
+      final ObjectGenerator<T> objectGenerator = this.getObjectGenerator();
+
+      assert objectGenerator != null : String.format(
+         "Did not find a '%s' value generator with the name '%s'.", this.valueType, this.name);
+
+      return objectGenerator.generateValue();
+   }
+
+   /**
+    * Returns the object generator this generator handle currently points at, or null if no object generator is registered with this
+    * generator handle's value type and name.
+    *
+    * @post return == null || (return.getValueType().equals(getValueType()) && return.getName().equals(getName()))
+    */
+   public ObjectGenerator<T> getObjectGenerator() {
+      final ObjectGenerator<T> objectGenerator = this.objectGenerator;
+      return objectGenerator != null ? objectGenerator : WildstyleGenerator.getObjectGenerator(this.valueType, this.name);
+   }
+
+   /**
+    * Returns true if an object generator is registered with this generator handle's value type and name, false otherwise.
+    */
+   public boolean isRegistered() {
+      return this.getObjectGenerator() != null;
+   }
+
+   /**
+    * Returns the value type associated with this generator handle.
+    *
+    * @post return != null
+    */
+   public Class<T> getValueType() {
+      return this.valueType;
+   }
+
+   /**
+    * Returns the name associated with this generator handle.
+    *
+    * @post !return.isEmpty()
+    */
+   public String getName() {
+      return this.name;
+   }
+
+   /**
+    * Points this generator handle at the given object generator, or at no object generator if the given object generator is null.
+    *
+    * @pre objectGenerator == null || (objectGenerator.getValueType().equals(getValueType()) && objectGenerator.getName().equals(getName()))
+    */
+   void setObjectGenerator(ObjectGenerator<T> objectGenerator) {
+      assert objectGenerator == null
+         || (objectGenerator.getValueType().equals(this.valueType) && objectGenerator.getName().equals(this.name));
+
+      this.objectGenerator = objectGenerator;
+   }
+
+   /**
+    * The value type associated with this generator handle.
+    *
+    * @invariant valueType != null
+    */
+   private final Class<T> valueType;
+
+   /**
+    * The name associated with this generator handle.
+    *
+    * @invariant !name.isEmpty()
+    */
+   private final String name;
+
+   /**
+    * The object generator this generator handle currently points at, or null if this generator handle is not in the registry. It is
+    * volatile so that a newly registered object generator is seen by every thread using this generator handle.
+    *
+    * @invariant objectGenerator == null || (objectGenerator.getValueType().equals(valueType) && objectGenerator.getName().equals(name))
+    */
+   private volatile ObjectGenerator<T> objectGenerator;
+
+}
@@ -1,9 +1,18 @@
 package ar.wildstyle;
 
+import java.lang.invoke.MethodHandle;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import ar.wildstyle.util.RandomUtils;
 import ar.wildstyle.util.ReflectionUtils;
 import ar.wildstyle.valuegenerator.ValueGenerator;
 
@@ -32,21 +41,88 @@ public class ObjectGenerator<T> implements ValueGenerator<T> {
     */
    public static final int DEFAULT_NULL_CHANCE = 0;
 
+   /**
+    * The number of values generated by each task when {@linkplain #generateParallel generating values in parallel}.
+    */
+   public static final int PARALLEL_CHUNK_SIZE = 1024;
+
+   /**
+    * Creates a new object generator with the given parameters, which only sets the fields mapped by the given field mapping and the parent
+    * object generator's field mapping.
+    *
+    * @pre !name.isEmpty()
+    * @pre // ReflectionUtils.findConstructor(fieldMapping.getType(), constructorArgs) does not throw an exception
+    * @pre nullChance >= 0
+    * @pre nullChance <= 100
+    * @post return.getValueType().equals(fieldMapping.getType())
+    * @post return.getName().equals(name)
+    *
+    * @see #ObjectGenerator(String, FieldMapping, List, double, ObjectGenerator, boolean)
+    */
+   public ObjectGenerator(String name, FieldMapping<T> fieldMapping, List<Object> constructorArgs, double nullChance,
+      ObjectGenerator<? super T> parent)
+   {
+      // Precondition(s) asserted by the call to "this(...)".
+      this(name, fieldMapping, constructorArgs, nullChance, parent, false, false);
+   }
+
    /**
     * Creates a new object generator with the given parameters. The given list of constructor arguments may contain
     * {@linkplain ValueGenerator value generators}, whose {@linkplain ValueGenerator#generateValue generated values} are used when calling
-    * {@link #generateValue}. If a parent object generator is given, its field mapping will be {@linkplain FieldMapping#merge merged} with
-    * the given field mapping.
+    * {@link #generateValue}. The constructor used to create instances is {@linkplain ReflectionUtils#findConstructor resolved} once, from
+    * the types of the given constructor arguments. No instance is created and no value is generated by the constructor arguments until
+    * {@link #generateValue} is invoked. The given field mapping is {@linkplain FieldMapping#freeze frozen}, so later changes to it do not
+    * affect this object generator. If a parent object generator is given, the frozen field mapping is layered on top of the parent's
+    * field mapping, whose entries take effect unless the given field mapping overrides them. The parent's entries are shared rather than
+    * copied, so its constant values are not generated again.
+    * <p>
+    * If {@code autoPopulate} is true, every field that is mapped by neither the given field mapping nor the parent's field mapping is
+    * {@linkplain FieldMapping#populate populated} from the cached {@linkplain DefaultFieldPlan default field plan} of the value type before
+    * the field mapping is frozen, so unmapped fields are set with default value generators without any per-value reflection. Since fields
+    * are set after the constructor is invoked, auto-populated fields overwrite any values assigned to them by the constructor.
+    * <p>
+    * All contracts involving the field mapping and constructor arguments are checked here, so {@link #generateValue} does not perform any
+    * per-value checks, even when assertions are enabled.
+    * <p>
+    * The field mapping entries are divided into {@linkplain FieldMappingEntry#isConstant constant} and generated entries here, and the
+    * value of each constant value generator is generated once. The constant fields are set on each new instance before the generated
+    * fields. The field mapping is not read again once this object generator is created.
     *
     * @pre !name.isEmpty()
-    * @pre // ReflectionUtils.newInstance(fieldMapping.getType(), constructorArgs) does not throw an exception
+    * @pre // ReflectionUtils.findConstructor(fieldMapping.getType(), constructorArgs) does not throw an exception
     * @pre nullChance >= 0
     * @pre nullChance <= 100
     * @post return.getValueType().equals(fieldMapping.getType())
     * @post return.getName().equals(name)
+    *
+    * @see #ObjectGenerator(String, FieldMapping, List, double, ObjectGenerator, boolean, boolean)
     */
    public ObjectGenerator(String name, FieldMapping<T> fieldMapping, List<Object> constructorArgs, double nullChance,
-      ObjectGenerator<? super T> parent)
+      ObjectGenerator<? super T> parent, boolean autoPopulate)
+   {
+      // Precondition(s) asserted by the call to "this(...)".
+      this(name, fieldMapping, constructorArgs, nullChance, parent, autoPopulate, false);
+   }
+
+   /**
+    * Creates a new object generator with the given parameters, as described by
+    * {@link #ObjectGenerator(String, FieldMapping, List, double, ObjectGenerator, boolean)}.
+    * <p>
+    * If {@code clonePrototype} is true, the value type has a public {@code clone} method and every constructor argument is a constant
+    * value, each value is created by cloning a prototype instance on which the constant fields have already been set, so the constructor
+    * is invoked only once and only the generated fields are set per value. The value type's {@code clone} method decides what is copied:
+    * with the shallow copy made by {@link Object#clone}, every value shares the objects referenced by the prototype's fields, including
+    * mutable constant values and any objects created by the constructor. Otherwise, each value is created by invoking the constructor.
+    *
+    * @pre !name.isEmpty()
+    * @pre // ReflectionUtils.findConstructor(fieldMapping.getType(), constructorArgs) does not throw an exception
+    * @pre nullChance >= 0
+    * @pre nullChance <= 100
+    * @post return.getValueType().equals(fieldMapping.getType())
+    * @post return.getName().equals(name)
+    */
+   public ObjectGenerator(String name, FieldMapping<T> fieldMapping, List<Object> constructorArgs, double nullChance,
+      ObjectGenerator<? super T> parent, boolean autoPopulate, boolean clonePrototype)
    {
       assert name != null : "The 'name' parameter cannot be null.";
       assert !name.isEmpty() : "The 'name' parameter cannot be empty.";
@@ -56,7 +132,7 @@ public class ObjectGenerator<T> implements ValueGenerator<T> {
       assert nullChance <= 100 : "The 'nullChance' parameter must be less than or equal to 100.";
 
       try {
-         ReflectionUtils.newInstance(fieldMapping.getType(), constructorArgs);
+         this.instantiator = ReflectionUtils.findInstantiator(ReflectionUtils.findConstructor(fieldMapping.getType(), constructorArgs));
       }
       catch (final Exception e) {
          throw new AssertionError(e);
@@ -64,10 +140,90 @@ public class ObjectGenerator<T> implements ValueGenerator<T> {
 
       this.valueType = fieldMapping.getType();
       this.name = name;
-      this.fieldMapping = parent == null ? fieldMapping : FieldMapping.merge(fieldMapping, parent.fieldMapping);
-      this.constructorArgs = constructorArgs;
+      final FieldMapping<? super T> parentFieldMapping = parent == null ? null : parent.fieldMapping;
+      this.fieldMapping = (autoPopulate ? fieldMapping.populate(parentFieldMapping) : fieldMapping).freeze(parentFieldMapping);
+
+      // Field mapping entries are checked for compatibility with their values when they are created. Check that every field belongs to the
+      // value type here, once, so that generateValue() can set fields without checking them.
+      for (final FieldMappingEntry<?> fieldMappingEntry : this.fieldMapping) {
+         assert fieldMappingEntry.getField().getDeclaringClass().isAssignableFrom(this.valueType) : String.format(
+            "The '%s' field is not declared by '%s' or any of its parents.", fieldMappingEntry.getField().getName(),
+            this.valueType.getName());
+      }
+
+      // Split the field mapping entries into constant entries, whose values were generated once when the field mapping was frozen, and
+      // generated entries. Both keep the field mapping's hierarchy order, so that fields are always set, and value generators always split,
+      // in the same order.
+      final List<FieldMappingEntry<?>> constantFieldMappingEntries = new ArrayList<>();
+      final List<FieldMappingEntry<?>> generatedFieldMappingEntries = new ArrayList<>();
+      for (final FieldMappingEntry<?> fieldMappingEntry : this.fieldMapping.toOrderedArray()) {
+         if (fieldMappingEntry.isConstant()) {
+            constantFieldMappingEntries.add(fieldMappingEntry);
+         }
+         else {
+            generatedFieldMappingEntries.add(fieldMappingEntry);
+         }
+      }
+
+      this.constantFieldMappingEntries = constantFieldMappingEntries.toArray(new FieldMappingEntry<?>[constantFieldMappingEntries.size()]);
+      this.generatedFieldMappingEntries =
+         generatedFieldMappingEntries.toArray(new FieldMappingEntry<?>[generatedFieldMappingEntries.size()]);
+
+      // Split the constructor arguments into constant values and value generators.
+      this.constructorArgValues = constructorArgs.toArray();
+      int constructorArgGeneratorCount = 0;
+      for (final Object valueOrValueGenerator : this.constructorArgValues) {
+         if (valueOrValueGenerator instanceof ValueGenerator) {
+            constructorArgGeneratorCount++;
+         }
+      }
+
+      this.constructorArgGeneratorIndices = new int[constructorArgGeneratorCount];
+      this.constructorArgGenerators = new ValueGenerator<?>[constructorArgGeneratorCount];
+      for (int x = 0, y = 0; x < this.constructorArgValues.length; x++) {
+         if (this.constructorArgValues[x] instanceof ValueGenerator) {
+            this.constructorArgGeneratorIndices[y] = x;
+            this.constructorArgGenerators[y++] = (ValueGenerator<?>)this.constructorArgValues[x];
+            this.constructorArgValues[x] = null;
+         }
+      }
+
+      // Instances can only be cloned from a prototype if the prototype would have been constructed with the same arguments.
+      this.cloner = clonePrototype && this.constructorArgGenerators.length == 0 ? ReflectionUtils.findCloner(this.valueType) : null;
+      this.prototype = null;
+
       this.nullChance = nullChance;
-      this.random = new Random();
+      this.random = null;
+   }
+
+   /**
+    * Creates a new object generator with the same configuration as the given object generator, whose generated field mapping entries and
+    * constructor argument value generators are {@linkplain ValueGenerator#split split} using the given splittable random. This constructor
+    * is only for internal use.
+    *
+    * @pre objectGenerator != null
+    * @pre random != null
+    */
+   private ObjectGenerator(ObjectGenerator<T> objectGenerator, SplittableRandom random) {
+      this.valueType = objectGenerator.valueType;
+      this.name = objectGenerator.name;
+      this.fieldMapping = objectGenerator.fieldMapping;
+      this.constantFieldMappingEntries = objectGenerator.constantFieldMappingEntries;
+      this.generatedFieldMappingEntries = new FieldMappingEntry<?>[objectGenerator.generatedFieldMappingEntries.length];
+      for (int x = 0; x < this.generatedFieldMappingEntries.length; x++) {
+         this.generatedFieldMappingEntries[x] = objectGenerator.generatedFieldMappingEntries[x].split(random);
+      }
+      this.constructorArgValues = objectGenerator.constructorArgValues;
+      this.constructorArgGeneratorIndices = objectGenerator.constructorArgGeneratorIndices;
+      this.constructorArgGenerators = new ValueGenerator<?>[objectGenerator.constructorArgGenerators.length];
+      for (int x = 0; x < this.constructorArgGenerators.length; x++) {
+         this.constructorArgGenerators[x] = objectGenerator.constructorArgGenerators[x].split(random);
+      }
+      this.instantiator = objectGenerator.instantiator;
+      this.cloner = objectGenerator.cloner;
+      this.prototype = objectGenerator.prototype;
+      this.nullChance = objectGenerator.nullChance;
+      this.random = new Random(random.nextLong());
    }
 
    /**
@@ -76,27 +232,244 @@ public class ObjectGenerator<T> implements ValueGenerator<T> {
    @Override
    public T generateValue() {
       // Determine if a null should be generated.
-      if (this.random.nextDouble() * 100 < this.nullChance) {
+      if (this.isNullGenerated()) {
          return null;
       }
 
-      // Create a new instance of the value type with the constructor arguments.
-      final T instance = ReflectionUtils.newInstance(this.valueType, this.constructorArgs);
+      // Create a new instance of the value type, either by cloning the prototype or with the constructor arguments.
+      final T instance;
+      if (this.cloner != null) {
+         instance = this.clonePrototype();
+      }
+      else {
+         instance = this.newInstance();
 
-      // Set fields explicitly provided in the field mapping.
-      for (final FieldMappingEntry<?> fieldMappingEntry : this.fieldMapping) {
-         ReflectionUtils.setField(instance, fieldMappingEntry.getField(), fieldMappingEntry.getOrGenerateValue());
+         for (final FieldMappingEntry<?> fieldMappingEntry : this.constantFieldMappingEntries) {
+            fieldMappingEntry.setField(instance);
+         }
+      }
+
+      // Set generated fields explicitly provided in the field mapping.
+      for (final FieldMappingEntry<?> fieldMappingEntry : this.generatedFieldMappingEntries) {
+         fieldMappingEntry.setField(instance);
       }
 
       return instance;
    }
 
+   /**
+    * Generates and returns a list of {@code count} values, each of which is generated as described by {@link #generateValue}. The values
+    * are generated column by column: every instance is created first, and then each {@linkplain FieldMappingEntry field mapping entry} sets
+    * its field on every instance before the next field mapping entry is used. This keeps each value generator in a tight loop, rather than
+    * switching between value generators for every instance.
+    * <p>
+    * The returned list is fixed-size.
+    *
+    * @pre count >= 0
+    * @post return.size() == count
+    */
+   public List<T> generateBatch(int count) {
+      assert count >= 0 : "The 'count' parameter must be greater than or equal to 0.";
+
+      // Create the instances, leaving null values in the positions where a null should be generated.
+      final Object[] instances = new Object[count];
+      for (int x = 0; x < count; x++) {
+         if (!this.isNullGenerated()) {
+            instances[x] = this.cloner != null ? this.clonePrototype() : this.newInstance();
+         }
+      }
+
+      // Set fields explicitly provided in the field mapping, one field at a time. Cloned instances already have their constant fields set.
+      if (this.cloner == null) {
+         for (final FieldMappingEntry<?> fieldMappingEntry : this.constantFieldMappingEntries) {
+            fieldMappingEntry.setFields(instances);
+         }
+      }
+
+      for (final FieldMappingEntry<?> fieldMappingEntry : this.generatedFieldMappingEntries) {
+         fieldMappingEntry.setFields(instances);
+      }
+
+      @SuppressWarnings("unchecked")
+      final List<T> values = (List<T>)Arrays.asList(instances);
+      return values;
+   }
+
+   /**
+    * Generates and returns a list of {@code count} values in parallel using the given fork/join pool, each of which is generated as
+    * described by {@link #generateValue}. The values are generated in chunks of {@link #PARALLEL_CHUNK_SIZE} values. Before any value is
+    * generated, each chunk is given its own object generator, {@linkplain #split split} in order from a {@link SplittableRandom} created
+    * with the given seed. The chunks are then generated {@linkplain #generateBatch in batches} by the fork/join pool.
+    * <p>
+    * Since the chunks and their random state do not depend on the pool, the same seed produces the same values regardless of the number of
+    * threads used. This holds only if every value generator used by this object generator is {@linkplain ValueGenerator#split split}. Value
+    * generators which return themselves when split, such as those which generate values in order or only once, are shared by all chunks, so
+    * the values they generate depend on the order in which the chunks are generated.
+    * <p>
+    * The returned list is fixed-size.
+    *
+    * @pre count >= 0
+    * @pre pool != null
+    * @post return.size() == count
+    */
+   public List<T> generateParallel(int count, long seed, ForkJoinPool pool) {
+      assert count >= 0 : "The 'count' parameter must be greater than or equal to 0.";
+      assert pool != null : "The 'pool' parameter cannot be null.";
+
+      // Split an object generator for each chunk up front, in order, so that each chunk's random state only depends on the seed.
+      final SplittableRandom random = new SplittableRandom(seed);
+      final int chunkCount =
+         count / ObjectGenerator.PARALLEL_CHUNK_SIZE + (count % ObjectGenerator.PARALLEL_CHUNK_SIZE == 0 ? 0 : 1);
+      final List<ObjectGenerator<T>> chunkObjectGenerators = new ArrayList<>(chunkCount);
+      for (int x = 0; x < chunkCount; x++) {
+         chunkObjectGenerators.add(this.split(random.split()));
+      }
+
+      final Object[] values = new Object[count];
+      pool.invoke(new GenerateParallelTask<T>(chunkObjectGenerators, values, 0, chunkCount));
+
+      @SuppressWarnings("unchecked")
+      final List<T> valuesList = (List<T>)Arrays.asList(values);
+      return valuesList;
+   }
+
+   /**
+    * Returns a sequential stream of {@code count} values, each of which is generated as described by {@link #generateValue}. The stream's
+    * {@link java.util.Spliterator} is {@linkplain java.util.Spliterator#SIZED sized} and splits into sub-generators that are
+    * {@linkplain #split split} from this object generator, so a {@linkplain Stream#parallel parallel} stream generates values on several
+    * threads without sharing random state.
+    *
+    * @pre count >= 0
+    * @post return != null
+    */
+   public Stream<T> stream(long count) {
+      assert count >= 0 : "The 'count' parameter must be greater than or equal to 0.";
+
+      final SplittableRandom random = new SplittableRandom(RandomUtils.current(this.random).nextLong());
+      return StreamSupport.stream(new ObjectGeneratorSpliterator<T>(this, random, 0, count), false);
+   }
+
+   /**
+    * Returns an effectively unlimited sequential stream of values, each of which is generated as described by {@link #generateValue}. This
+    * is equivalent to {@code stream(Long.MAX_VALUE)}.
+    *
+    * @post return != null
+    */
+   public Stream<T> stream() {
+      return this.stream(Long.MAX_VALUE);
+   }
+
    /**
     * {@inheritDoc}
+    * <p>
+    * The returned object generator shares this object generator's name, resolved constructor, constant values and prototype instance. Its
+    * generated field mapping entries and constructor argument value generators are split from this object generator's, and it has its own
+    * random instance.
     */
    @Override
-   public boolean canGenerateNull() {
-      return this.nullChance > 0;
+   public ObjectGenerator<T> split(SplittableRandom random) {
+      assert random != null : "The 'random' parameter cannot be null.";
+
+      return new ObjectGenerator<T>(this, random);
+   }
+
+   /**
+    * Returns true if the next value generated by this object generator should be {@code null}, based on its null chance.
+    */
+   private boolean isNullGenerated() {
+      // Object generators which cannot generate null values do not need to draw a random value.
+      return this.nullChance > 0 && RandomUtils.current(this.random).nextDouble() * 100 < this.nullChance;
+   }
+
+   /**
+    * Creates a new instance of the value type by invoking the resolved constructor with the constructor arguments. Constant constructor
+    * argument values are passed as-is, and the {@linkplain ValueGenerator value generators} in the constructor arguments are used to
+    * generate the remaining argument values.
+    *
+    * @throws IllegalArgumentException if there is an exception thrown when creating the new instance
+    *
+    * @post return != null
+    */
+   private T newInstance() {
+      // The constant values can be passed directly when no values need to be generated, since the array is never modified.
+      final Object[] resolvedConstructorArgValues =
+         this.constructorArgGenerators.length == 0 ? this.constructorArgValues : this.constructorArgValues.clone();
+
+      for (int x = 0; x < this.constructorArgGenerators.length; x++) {
+         resolvedConstructorArgValues[this.constructorArgGeneratorIndices[x]] = this.constructorArgGenerators[x].generateValue();
+      }
+
+      try {
+         return this.valueType.cast((Object)this.instantiator.invokeExact(resolvedConstructorArgValues));
+      }
+      catch (final Error e) {
+         throw e;
+      }
+      catch (final Throwable t) {
+         throw new IllegalArgumentException(
+            String.format("Could not construct an instance of '%s' using the resolved list of constructor arguments: %s", this.valueType,
+               Arrays.toString(resolvedConstructorArgValues)),
+            t);
+      }
+   }
+
+   /**
+    * Creates a new instance of the value type by cloning the prototype instance, on which the constant fields have been set. The prototype
+    * instance is created the first time this method is invoked.
+    *
+    * @throws IllegalArgumentException if there is an exception thrown when creating the prototype instance or cloning it
+    *
+    * @pre this.cloner != null
+    * @post return != null
+    */
+   private T clonePrototype() {
+      Object prototype = this.prototype;
+      if (prototype == null) {
+         synchronized (this) {
+            prototype = this.prototype;
+            if (prototype == null) {
+               final T instance = this.newInstance();
+               for (final FieldMappingEntry<?> fieldMappingEntry : this.constantFieldMappingEntries) {
+                  fieldMappingEntry.setField(instance);
+               }
+
+               this.prototype = prototype = instance;
+            }
+         }
+      }
+
+      try {
+         return this.valueType.cast((Object)this.cloner.invokeExact(prototype));
+      }
+      catch (final Error e) {
+         throw e;
+      }
+      catch (final Throwable t) {
+         throw new IllegalArgumentException(String.format("Could not clone an instance of '%s'.", this.valueType), t);
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * An object generator is {@linkplain ValueGenerator#NULLABLE nullable} if its null chance is greater than 0. It is
+    * {@linkplain ValueGenerator#STATELESS stateless}, {@linkplain ValueGenerator#CONCURRENT concurrent} or
+    * {@linkplain ValueGenerator#DETERMINISTIC deterministic} if every field mapping entry and constructor argument value generator it uses
+    * is. It is never {@linkplain ValueGenerator#CONSTANT constant}, since it creates a new instance for every value.
+    */
+   @Override
+   public int characteristics() {
+      int characteristics = ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC;
+
+      for (final FieldMappingEntry<?> fieldMappingEntry : this.generatedFieldMappingEntries) {
+         characteristics &= fieldMappingEntry.characteristics();
+      }
+
+      for (final ValueGenerator<?> constructorArgGenerator : this.constructorArgGenerators) {
+         characteristics &= constructorArgGenerator.characteristics();
+      }
+
+      return this.nullChance > 0 ? characteristics | ValueGenerator.NULLABLE : characteristics;
    }
 
    /**
@@ -118,6 +491,81 @@ public class ObjectGenerator<T> implements ValueGenerator<T> {
       return this.name;
    }
 
+   /**
+    * {@code GenerateParallelTask} generates a range of chunks for {@link ObjectGenerator#generateParallel}, forking until each task
+    * generates a single chunk.
+    */
+   private static class GenerateParallelTask<T> extends RecursiveAction {
+
+      /**
+       * Creates a new {@code GenerateParallelTask} which generates the chunks from {@code fromChunk} (inclusive) to {@code toChunk}
+       * (exclusive) into the given array of values.
+       *
+       * @pre chunkObjectGenerators != null
+       * @pre values != null
+       * @pre fromChunk <= toChunk
+       */
+      private GenerateParallelTask(List<ObjectGenerator<T>> chunkObjectGenerators, Object[] values, int fromChunk, int toChunk) {
+         this.chunkObjectGenerators = chunkObjectGenerators;
+         this.values = values;
+         this.fromChunk = fromChunk;
+         this.toChunk = toChunk;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      protected void compute() {
+         if (this.toChunk - this.fromChunk > 1) {
+            final int midChunk = (this.fromChunk + this.toChunk) >>> 1;
+            ForkJoinTask.invokeAll(new GenerateParallelTask<T>(this.chunkObjectGenerators, this.values, this.fromChunk, midChunk),
+               new GenerateParallelTask<T>(this.chunkObjectGenerators, this.values, midChunk, this.toChunk));
+            return;
+         }
+
+         for (int chunk = this.fromChunk; chunk < this.toChunk; chunk++) {
+            final int offset = chunk * ObjectGenerator.PARALLEL_CHUNK_SIZE;
+            final int count = Math.min(this.values.length - offset, ObjectGenerator.PARALLEL_CHUNK_SIZE);
+            final List<T> chunkValues = this.chunkObjectGenerators.get(chunk).generateBatch(count);
+
+            for (int x = 0; x < count; x++) {
+               this.values[offset + x] = chunkValues.get(x);
+            }
+         }
+      }
+
+      /**
+       * The serial version UID of this task.
+       */
+      private static final long serialVersionUID = 1L;
+
+      /**
+       * The object generators used to generate each chunk, in chunk order.
+       *
+       * @invariant chunkObjectGenerators != null
+       */
+      private final List<ObjectGenerator<T>> chunkObjectGenerators;
+
+      /**
+       * The array of values that the generated chunks are written to.
+       *
+       * @invariant values != null
+       */
+      private final Object[] values;
+
+      /**
+       * The first chunk generated by this task.
+       */
+      private final int fromChunk;
+
+      /**
+       * The chunk after the last chunk generated by this task.
+       */
+      private final int toChunk;
+
+   }
+
    /**
     * The type of value generated by this object generator.
     *
@@ -133,20 +581,73 @@ public class ObjectGenerator<T> implements ValueGenerator<T> {
    private final String name;
 
    /**
-    * The field mapping associated with this object generator.
+    * The frozen field mapping associated with this object generator, which is layered on top of the parent object generator's field
+    * mapping, if any.
     *
     * @invariant fieldMapping.getType().equals(valueType)
     */
    private final FieldMapping<T> fieldMapping;
 
    /**
-    * The list of arguments used by this object generator when creating instances of {@code T}. This list may contain
-    * {@linkplain ValueGenerator value generators}, whose {@linkplain ValueGenerator#generateValue generated values} are used when creating
+    * The field mapping entries whose values are the same for every value generated by this object generator, in the field mapping's
+    * {@linkplain FieldMapping#toOrderedArray hierarchy order}.
+    *
+    * @invariant Arrays.stream(constantFieldMappingEntries).allMatch(e -> e.isConstant())
+    */
+   private final FieldMappingEntry<?>[] constantFieldMappingEntries;
+
+   /**
+    * The field mapping entries whose values are generated for every value generated by this object generator, in the field mapping's
+    * {@linkplain FieldMapping#toOrderedArray hierarchy order}.
+    *
+    * @invariant generatedFieldMappingEntries != null
+    */
+   private final FieldMappingEntry<?>[] generatedFieldMappingEntries;
+
+   /**
+    * The constant constructor argument values used by this object generator when creating instances of {@code T}. Positions which are
+    * filled by a value generator in {@link #constructorArgGenerators} hold {@code null}.
+    *
+    * @invariant constructorArgValues != null
+    */
+   private final Object[] constructorArgValues;
+
+   /**
+    * The positions in {@link #constructorArgValues} which are filled by the corresponding value generator in
+    * {@link #constructorArgGenerators}.
+    *
+    * @invariant constructorArgGeneratorIndices.length == constructorArgGenerators.length
+    */
+   private final int[] constructorArgGeneratorIndices;
+
+   /**
+    * The value generators whose {@linkplain ValueGenerator#generateValue generated values} are used as constructor arguments when creating
     * new instances of {@code T}, rather than the value generator itself.
     *
-    * @invariant constructorArgs != null
+    * @invariant constructorArgGenerators.length == constructorArgGeneratorIndices.length
+    */
+   private final ValueGenerator<?>[] constructorArgGenerators;
+
+   /**
+    * The method handle used by this object generator to invoke the constructor of {@code T} that matches the constructor arguments.
+    *
+    * @invariant instantiator.type().equals(MethodType.methodType(Object.class, Object[].class))
     */
-   private final List<Object> constructorArgs;
+   private final MethodHandle instantiator;
+
+   /**
+    * The method handle used by this object generator to clone the prototype instance, or {@code null} if instances are created with the
+    * constructor instead, which is the default.
+    *
+    * @invariant cloner == null || cloner.type().equals(MethodType.methodType(Object.class, Object.class))
+    */
+   private final MethodHandle cloner;
+
+   /**
+    * The instance of {@code T} with the constant fields set, which is cloned to create new instances if {@code cloner} is not
+    * {@code null}, or {@code null} if it has not been created yet.
+    */
+   private volatile Object prototype;
 
    /**
     * The chance that this object generator generates a null value when {@link #generateValue} is invoked.
@@ -157,9 +658,8 @@ public class ObjectGenerator<T> implements ValueGenerator<T> {
    private final double nullChance;
 
    /**
-    * The random value generator associated with this object generator.
-    *
-    * @invariant random != null
+    * The random instance associated with this object generator if it was {@linkplain #split split}, or {@code null} if the current thread's
+    * random instance is used.
     */
    private final Random random;
 
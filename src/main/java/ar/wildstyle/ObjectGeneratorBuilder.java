@@ -29,6 +29,8 @@ class ObjectGeneratorBuilder<T> {
       this.constructorArgs = ObjectGenerator.DEFAULT_CONSTRUCTOR_ARGS;
       this.nullChance = ObjectGenerator.DEFAULT_NULL_CHANCE;
       this.parent = null;
+      this.autoPopulate = false;
+      this.clonePrototype = false;
    }
 
    /**
@@ -190,18 +192,65 @@ class ObjectGeneratorBuilder<T> {
       return this;
    }
 
+   /**
+    * Returns true if {@link ObjectGenerator} instances {@linkplain #register registered} by this object generator builder auto-populate
+    * unmapped fields, false otherwise.
+    */
+   public boolean isAutoPopulate() {
+      return this.autoPopulate;
+   }
+
+   /**
+    * Sets whether {@link ObjectGenerator} instances {@linkplain #register registered} by this object generator builder auto-populate
+    * unmapped fields. If true, every field that is not mapped by this object generator builder or its parent is mapped to a default value
+    * generator for the field's type if there is one. Every other field whose type has an object generator registered with the
+    * {@linkplain ObjectGenerator#DEFAULT_NAME default object generator name} at the time of registration is mapped to the object generator
+    * registered with its type when each value is generated, or to {@code null} if there is none by then. Nested values are generated at
+    * most a few levels deep, so fields of self-referencing types eventually stay {@code null}. Fields of any other type, such as
+    * collections, {@code static} fields and {@code final} fields are left alone. The default mappings for a type are worked out once and
+    * reused by every registration.
+    * <p>
+    * Auto-populated fields are set after the constructor is invoked, so they overwrite any values the constructor assigns to them. Map such
+    * fields explicitly, or leave auto-population off, to keep the values assigned by the constructor.
+    */
+   public ObjectGeneratorBuilder<T> setAutoPopulate(boolean autoPopulate) {
+      this.autoPopulate = autoPopulate;
+      return this;
+   }
+
+   /**
+    * Returns true if {@link ObjectGenerator} instances {@linkplain #register registered} by this object generator builder create values by
+    * cloning a prototype instance, false otherwise.
+    */
+   public boolean isClonePrototype() {
+      return this.clonePrototype;
+   }
+
+   /**
+    * Sets whether {@link ObjectGenerator} instances {@linkplain #register registered} by this object generator builder create values by
+    * cloning a prototype instance, which is false by default. If true, the type has a public {@code clone} method and every constructor
+    * argument is a hard-coded value, the constructor is invoked once to create a prototype instance with the hard-coded fields set, and
+    * each value is a clone of the prototype with the fields mapped to value generators set. Values are only as independent as the
+    * type's {@code clone} method makes them: with the shallow copy made by {@link Object#clone}, every value shares the objects referenced
+    * by the prototype's fields, such as mutable hard-coded values and objects created by the constructor.
+    */
+   public ObjectGeneratorBuilder<T> setClonePrototype(boolean clonePrototype) {
+      this.clonePrototype = clonePrototype;
+      return this;
+   }
+
    /**
     * Builds, registers and returns a new {@link ObjectGenerator} based on the current state of this object generator builder.
     *
-    * @pre // ReflectionUtils.newInstance(getType(), getConstructorArgs()) does not throw an exception
+    * @pre // ReflectionUtils.findConstructor(getType(), getConstructorArgs()) does not throw an exception
     * @post return.getValueType().equals(getType())
     * @post return.getName().equals(getName())
     * @post WildstyleGenerator.getObjectGenerator(return.getValueType(), return.getName()) != null
     */
    public ObjectGenerator<T> register() {
       // Precondition(s) asserted by the call to "new ObjectGenerator<T>(...)".
-      final ObjectGenerator<T> objectGenerator =
-         new ObjectGenerator<T>(this.name, this.fieldMapping, this.constructorArgs, this.nullChance, this.parent);
+      final ObjectGenerator<T> objectGenerator = new ObjectGenerator<T>(this.name, this.fieldMapping, this.constructorArgs, this.nullChance,
+         this.parent, this.autoPopulate, this.clonePrototype);
 
       WildstyleGenerator.registerObjectGenerator(objectGenerator);
       return objectGenerator;
@@ -241,4 +290,15 @@ class ObjectGeneratorBuilder<T> {
     */
    private ObjectGenerator<? super T> parent;
 
+   /**
+    * True if object generators registered by this object generator builder auto-populate unmapped fields, false otherwise.
+    */
+   private boolean autoPopulate;
+
+   /**
+    * True if object generators registered by this object generator builder create values by cloning a prototype instance, false
+    * otherwise.
+    */
+   private boolean clonePrototype;
+
 }
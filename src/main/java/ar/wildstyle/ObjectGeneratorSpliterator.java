@@ -0,0 +1,146 @@
+package ar.wildstyle;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * {@code ObjectGeneratorSpliterator} is a {@link Spliterator} over a fixed number of values {@linkplain ObjectGenerator#generateValue
+ * generated} by an {@link ObjectGenerator}. When split, the prefix is covered by an object generator {@linkplain ObjectGenerator#split
+ * split} from this spliterator's object generator, so the two spliterators do not share random state.
+ *
+ * @see ObjectGenerator#stream(long)
+ *
+ * @author Adam Rosini
+ */
+class ObjectGeneratorSpliterator<T> implements Spliterator<T> {
+
+   /**
+    * The maximum number of values generated in one {@linkplain ObjectGenerator#generateBatch batch} by {@link #forEachRemaining}.
+    */
+   static final int BATCH_SIZE = 1024;
+
+   /**
+    * Creates a new {@code ObjectGeneratorSpliterator} which covers the values from {@code index} (inclusive) to {@code fence} (exclusive),
+    * generated by the given object generator. The given splittable random is used to split the object generator when this spliterator is
+    * {@linkplain #trySplit split}.
+    *
+    * @pre objectGenerator != null
+    * @pre random != null
+    * @pre index >= 0
+    * @pre index <= fence
+    */
+   ObjectGeneratorSpliterator(ObjectGenerator<T> objectGenerator, SplittableRandom random, long index, long fence) {
+      assert objectGenerator != null : "The 'objectGenerator' parameter cannot be null.";
+      assert random != null : "The 'random' parameter cannot be null.";
+      assert index >= 0 : "The 'index' parameter must be greater than or equal to 0.";
+      assert index <= fence : "The 'index' parameter must be less than or equal to the 'fence' parameter.";
+
+      this.objectGenerator = objectGenerator;
+      this.random = random;
+      this.index = index;
+      this.fence = fence;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public boolean tryAdvance(Consumer<? super T> action) {
+      assert action != null : "The 'action' parameter cannot be null.";
+
+      if (this.index >= this.fence) {
+         return false;
+      }
+
+      action.accept(this.objectGenerator.generateValue());
+      this.index++;
+      return true;
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The remaining values are generated in {@linkplain ObjectGenerator#generateBatch batches}.
+    */
+   @Override
+   public void forEachRemaining(Consumer<? super T> action) {
+      assert action != null : "The 'action' parameter cannot be null.";
+
+      while (this.index < this.fence) {
+         final int count = (int)Math.min(this.fence - this.index, ObjectGeneratorSpliterator.BATCH_SIZE);
+         final List<T> values = this.objectGenerator.generateBatch(count);
+         this.index += count;
+
+         for (final T value : values) {
+            action.accept(value);
+         }
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The returned spliterator covers the first half of the remaining values, using an object generator split from this spliterator's object
+    * generator.
+    */
+   @Override
+   public ObjectGeneratorSpliterator<T> trySplit() {
+      final long lo = this.index;
+      final long mid = (lo + this.fence) >>> 1;
+      if (lo >= mid) {
+         return null;
+      }
+
+      final SplittableRandom splitRandom = this.random.split();
+      this.index = mid;
+      return new ObjectGeneratorSpliterator<T>(this.objectGenerator.split(splitRandom), splitRandom, lo, mid);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long estimateSize() {
+      return this.fence - this.index;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      final int characteristics = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+      return this.objectGenerator.canGenerateNull() ? characteristics : characteristics | Spliterator.NONNULL;
+   }
+
+   /**
+    * The object generator used to generate the values covered by this spliterator.
+    *
+    * @invariant objectGenerator != null
+    */
+   private final ObjectGenerator<T> objectGenerator;
+
+   /**
+    * The splittable random used to split the object generator when this spliterator is split.
+    *
+    * @invariant random != null
+    */
+   private final SplittableRandom random;
+
+   /**
+    * The index of the next value generated by this spliterator.
+    *
+    * @invariant index <= fence
+    */
+   private long index;
+
+   /**
+    * The index after the last value generated by this spliterator.
+    *
+    * @invariant fence >= index
+    */
+   private final long fence;
+
+}
@@ -2,8 +2,12 @@ package ar.wildstyle;
 
 import ar.wildstyle.valuegenerator.ValueGenerator;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * {@code WildstyleGenerator} provides utilities to assist with the generation of object instances. It acts as a
@@ -56,15 +60,59 @@ public class WildstyleGenerator {
    * @post return == null || (return.getValueType().equals(valueType) && return.getName().equals(name))
    *
    */
-  @SuppressWarnings("unchecked")
   public static <T> ObjectGenerator<T> getObjectGenerator(Class<T> valueType, String name) {
-    final Map<String, ObjectGenerator<?>> valueTypeGenerators = WildstyleGenerator.objectGenerators.get(valueType);
-    if (valueTypeGenerators == null) {
+    // Concurrent maps do not accept null keys, and nothing is registered under one.
+    if (valueType == null || name == null) {
       return null;
     }
 
-    // TODO: Remove warning suppression.
-    return (ObjectGenerator<T>) valueTypeGenerators.get(name);
+    final Map<String, GeneratorHandle<?>> valueTypeHandles = WildstyleGenerator.generatorHandles.get(valueType);
+    if (valueTypeHandles == null) {
+      return null;
+    }
+
+    // Generator handles are only stored under their own value type.
+    @SuppressWarnings("unchecked")
+    final GeneratorHandle<T> generatorHandle = (GeneratorHandle<T>) valueTypeHandles.get(name);
+    return generatorHandle == null ? null : generatorHandle.getObjectGenerator();
+  }
+
+  /**
+   * Returns the generator handle for the given value type and the {@linkplain ObjectGenerator#DEFAULT_NAME default
+   * object generator name}.
+   *
+   * @pre valueType != null
+   * @post return.getValueType().equals(valueType) && return.getName().equals(DEFAULT_NAME)
+   */
+  public static <T> GeneratorHandle<T> getGeneratorHandle(Class<T> valueType) {
+    // Precondition(s) asserted by the call to "WildstyleGenerator.getGeneratorHandle(...)".
+    return WildstyleGenerator.getGeneratorHandle(valueType, ObjectGenerator.DEFAULT_NAME);
+  }
+
+  /**
+   * Returns the generator handle for the given value type and name. The generator handle always points at the object
+   * generator most recently registered with the given value type and name, so it can be obtained once and used to
+   * {@linkplain GeneratorHandle#generate generate} objects without looking up the object generator on every call. A
+   * generator handle may be obtained before an object generator is registered with the given value type and name, in
+   * which case a new generator handle is returned without being added to the registry, and it looks up the object
+   * generator on every call until it is discarded.
+   *
+   * @pre valueType != null
+   * @pre !name.isEmpty()
+   * @post return.getValueType().equals(valueType) && return.getName().equals(name)
+   */
+  public static <T> GeneratorHandle<T> getGeneratorHandle(Class<T> valueType, String name) {
+    assert valueType != null : "The 'valueType' parameter cannot be null.";
+    assert name != null : "The 'name' parameter cannot be null.";
+    assert !name.isEmpty() : "The 'name' parameter cannot be empty.";
+
+    final Map<String, GeneratorHandle<?>> valueTypeHandles = WildstyleGenerator.generatorHandles.get(valueType);
+    final GeneratorHandle<?> generatorHandle = valueTypeHandles == null ? null : valueTypeHandles.get(name);
+
+    // Generator handles are only stored under their own value type.
+    @SuppressWarnings("unchecked")
+    final GeneratorHandle<T> registeredGeneratorHandle = (GeneratorHandle<T>) generatorHandle;
+    return registeredGeneratorHandle != null ? registeredGeneratorHandle : new GeneratorHandle<T>(valueType, name);
   }
 
   /**
@@ -92,45 +140,127 @@ public class WildstyleGenerator {
     assert objectGeneratorName != null : "The 'objectGeneratorName' parameter cannot be null.";
     assert !objectGeneratorName.isEmpty() : "The 'objectGeneratorName' parameter cannot be empty.";
 
-    final ObjectGenerator<?> objectGenerator = WildstyleGenerator.getObjectGenerator(valueType, objectGeneratorName);
+    final ObjectGenerator<T> objectGenerator = WildstyleGenerator.getObjectGenerator(valueType, objectGeneratorName);
+
+    assert objectGenerator != null : String.format(
+        "Did not find a '%s' value generator with the name '%s'.", valueType, objectGeneratorName);
+
+    // Object generators are registered under their own value type, so the generated value does not need to be cast.
+    return objectGenerator.generateValue();
+  }
+
+  /**
+   * Generates a list of {@code count} objects in parallel, using the given fork/join pool and the object generator
+   * registered with the given object generator name that produces the given value type. A random seed is used, so the
+   * generated objects are not reproducible. Use {@link #generateParallel(Class, String, int, long, ForkJoinPool)} to
+   * generate the same objects on every run.
+   *
+   * @pre valueType != null
+   * @pre !objectGeneratorName.isEmpty()
+   * @pre getObjectGenerator(valueType, objectGeneratorName) != null
+   * @pre count >= 0
+   * @pre pool != null
+   * @post return.size() == count
+   */
+  public static <T> List<T> generateParallel(Class<T> valueType, String objectGeneratorName, int count,
+      ForkJoinPool pool) {
+    // Precondition(s) asserted by the call to "WildstyleGenerator.generateParallel(...)".
+    return WildstyleGenerator.generateParallel(valueType, objectGeneratorName, count,
+        ThreadLocalRandom.current().nextLong(), pool);
+  }
+
+  /**
+   * Generates a list of {@code count} objects in parallel, using the given fork/join pool and the object generator
+   * registered with the given object generator name that produces the given value type. The same seed generates the
+   * same objects regardless of the number of threads in the pool, as described by
+   * {@link ObjectGenerator#generateParallel}.
+   *
+   * @pre valueType != null
+   * @pre !objectGeneratorName.isEmpty()
+   * @pre getObjectGenerator(valueType, objectGeneratorName) != null
+   * @pre count >= 0
+   * @pre pool != null
+   * @post return.size() == count
+   */
+  public static <T> List<T> generateParallel(Class<T> valueType, String objectGeneratorName, int count, long seed,
+      ForkJoinPool pool) {
+    assert valueType != null : "The 'valueType' parameter cannot be null.";
+    assert objectGeneratorName != null : "The 'objectGeneratorName' parameter cannot be null.";
+    assert !objectGeneratorName.isEmpty() : "The 'objectGeneratorName' parameter cannot be empty.";
+
+    final ObjectGenerator<T> objectGenerator = WildstyleGenerator.getObjectGenerator(valueType, objectGeneratorName);
 
     assert objectGenerator != null : String.format(
         "Did not find a '%s' value generator with the name '%s'.", valueType, objectGeneratorName);
 
-    return valueType.cast(objectGenerator.generateValue());
+    // Remaining precondition(s) asserted by the call to "ObjectGenerator#generateParallel(...)".
+    return objectGenerator.generateParallel(count, seed, pool);
   }
 
   /**
-   * Removes all registered {@link ObjectGenerator} instances from the registry.
+   * Removes all registered {@link ObjectGenerator} instances and their {@linkplain GeneratorHandle generator handles}
+   * from the registry, so the registry no longer holds on to any value type. Existing generator handles remain valid,
+   * and point at object generators registered afterwards.
    */
   public static void clearRegistry() {
-    WildstyleGenerator.objectGenerators.clear();
+    for (final Class<?> valueType : WildstyleGenerator.generatorHandles.keySet()) {
+      WildstyleGenerator.generatorHandles.computeIfPresent(valueType, (type, valueTypeHandles) -> {
+        for (final GeneratorHandle<?> generatorHandle : valueTypeHandles.values()) {
+          generatorHandle.setObjectGenerator(null);
+        }
+
+        return null;
+      });
+    }
   }
 
   /**
    * Register the given object generator. If an object generator with the same {@linkplain ObjectGenerator#getName name}
-   * and {@linkplain ObjectGenerator#getValueType value type} already exists, it is overwritten.
+   * and {@linkplain ObjectGenerator#getValueType value type} already exists, it is overwritten, and the corresponding
+   * {@linkplain GeneratorHandle generator handle} points at the given object generator from then on.
    *
    * @pre objectGenerator != null
    * @post getObjectGenerator(objectGenerator.getValueType(), objectGenerator.getName()) != null
    */
-  protected static void registerObjectGenerator(ObjectGenerator<?> objectGenerator) {
+  protected static <T> void registerObjectGenerator(ObjectGenerator<T> objectGenerator) {
     assert objectGenerator != null : "The 'objectGenerator' parameter cannot be null.";
 
-    if (!WildstyleGenerator.objectGenerators.containsKey(objectGenerator.getValueType())) {
-      WildstyleGenerator.objectGenerators.put(objectGenerator.getValueType(),
-          new HashMap<String, ObjectGenerator<?>>());
-    }
+    final Class<T> valueType = objectGenerator.getValueType();
+
+    // The generator handle is added and bound while the value type's entry is locked, so that it cannot be removed by a
+    // concurrent call to clearRegistry() in between.
+    WildstyleGenerator.generatorHandles.compute(valueType, (type, valueTypeHandles) -> {
+      final ConcurrentMap<String, GeneratorHandle<?>> handles =
+          valueTypeHandles == null ? new ConcurrentHashMap<>() : valueTypeHandles;
 
-    WildstyleGenerator.objectGenerators.get(objectGenerator.getValueType()).put(objectGenerator.getName(),
-        objectGenerator);
+      // Generator handles are only stored under their own value type.
+      @SuppressWarnings("unchecked")
+      final GeneratorHandle<T> generatorHandle = (GeneratorHandle<T>) handles
+          .computeIfAbsent(objectGenerator.getName(), name -> new GeneratorHandle<T>(valueType, name));
+      generatorHandle.setObjectGenerator(objectGenerator);
+
+      return handles;
+    });
+  }
+
+  /**
+   * Returns the number of value types with at least one generator handle in the registry.
+   *
+   * @post return >= 0
+   */
+  static int getRegisteredValueTypeCount() {
+    return WildstyleGenerator.generatorHandles.size();
   }
 
   /**
-   * The map of classes to object generator maps.
+   * The map of classes to maps of names to generator handles. Both levels are concurrent maps, so object generators can
+   * be registered and looked up from any number of threads without locking on reads. Only generator handles which point
+   * at a registered object generator are held, so looking up an unregistered value type does not add an entry, and
+   * clearing the registry removes every entry along with its value type.
    *
-   * @invariant objectGenerators != null
+   * @invariant generatorHandles != null
    */
-  private static final Map<Class<?>, Map<String, ObjectGenerator<?>>> objectGenerators = new HashMap<>();
+  private static final ConcurrentMap<Class<?>, ConcurrentMap<String, GeneratorHandle<?>>> generatorHandles =
+      new ConcurrentHashMap<>();
 
 }
@@ -0,0 +1,98 @@
+package ar.wildstyle.util;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Contains random number generation utility methods.
+ *
+ * @author Adam Rosini
+ */
+public class RandomUtils {
+
+   /**
+    * Returns the given random instance, or the current thread's {@link ThreadLocalRandom} if the given random instance is {@code null}.
+    * <p>
+    * Value generators which have not been {@linkplain ar.wildstyle.valuegenerator.ValueGenerator#split split} do not own a random
+    * instance, and use the current thread's random instance instead, so that threads sharing a value generator do not contend on a single
+    * random seed. Split value generators own a seeded random instance, so that the values they generate are reproducible.
+    *
+    * @post return != null
+    */
+   public static Random current(Random random) {
+      return random == null ? ThreadLocalRandom.current() : random;
+   }
+
+   /**
+    * Returns a uniformly distributed {@code int} value between the given {@code min} and the given {@code max} (inclusive), using the
+    * given random instance. Any range of {@code int} values is supported, including {@link Integer#MIN_VALUE} to
+    * {@link Integer#MAX_VALUE}, and no objects are allocated.
+    *
+    * @pre random != null
+    * @pre min <= max
+    * @post return >= min
+    * @post return <= max
+    */
+   public static int nextInt(Random random, int min, int max) {
+      assert random != null : "The 'random' parameter cannot be null.";
+      assert min <= max : "The 'min' parameter must be less than or equal to the 'max' parameter.";
+
+      // The number of values in the range always fits in a long. Random.nextInt(int) is unbiased for any positive int bound.
+      final long bound = (long)max - min + 1;
+      if (bound <= Integer.MAX_VALUE) {
+         return min + random.nextInt((int)bound);
+      }
+
+      return (int)RandomUtils.nextLong(random, min, max);
+   }
+
+   /**
+    * Returns a uniformly distributed {@code long} value between the given {@code min} and the given {@code max} (inclusive), using the
+    * given random instance. Any range of {@code long} values is supported, including {@link Long#MIN_VALUE} to {@link Long#MAX_VALUE},
+    * and no objects are allocated.
+    *
+    * @pre random != null
+    * @pre min <= max
+    * @post return >= min
+    * @post return <= max
+    */
+   public static long nextLong(Random random, long min, long max) {
+      assert random != null : "The 'random' parameter cannot be null.";
+      assert min <= max : "The 'min' parameter must be less than or equal to the 'max' parameter.";
+
+      // The number of values in the range, which overflows to 0 for the full range of long values, and to a negative number for any other
+      // range of more than Long.MAX_VALUE values.
+      final long bound = max - min + 1;
+
+      if (bound == 0) {
+         return random.nextLong();
+      }
+
+      if (bound > 0) {
+         final long mask = bound - 1;
+         long value = random.nextLong();
+
+         // If the bound is a power of two, the low bits of a random value are uniformly distributed.
+         if ((bound & mask) == 0) {
+            return min + (value & mask);
+         }
+
+         // Otherwise reject the values at the top of the range of non-negative longs that would make the remainder biased.
+         long unsigned = value >>> 1;
+         while (unsigned + mask - (value = unsigned % bound) < 0) {
+            unsigned = random.nextLong() >>> 1;
+         }
+
+         return min + value;
+      }
+
+      // The range covers more than half of all long values, so a random long value is in the range more than half of the time.
+      long value;
+      do {
+         value = random.nextLong();
+      } while (value < min || value > max);
+
+      return value;
+   }
+
+}
@@ -1,9 +1,20 @@
 package ar.wildstyle.util;
 
-import java.beans.Expression;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import ar.wildstyle.valuegenerator.ValueGenerator;
 
@@ -108,6 +119,37 @@ public class ReflectionUtils {
       return compatible;
    }
 
+   /**
+    * Returns every field declared by the given type and its parents. Fields declared by a class come before fields declared by its
+    * subclasses, and fields declared by the same class are in the order returned by {@link Class#getDeclaredFields}. The fields are
+    * discovered once per type and cached, so repeated calls do not use reflection.
+    *
+    * @pre type != null
+    * @post return != null
+    */
+   public static List<Field> getFields(Class<?> type) {
+      assert type != null : "The 'type' parameter cannot be null.";
+
+      return ReflectionUtils.fieldIndexes.get(type).fields;
+   }
+
+   /**
+    * Returns the fields with the given name declared by the given type and its parents, starting from the given type and progressing
+    * {@linkplain Class#getSuperclass upwards} in the class hierarchy, or an empty list if there are none. The fields are discovered once
+    * per type and cached, so this is a hash lookup that neither uses reflection nor throws a {@link NoSuchFieldException}.
+    *
+    * @pre type != null
+    * @pre !fieldName.isEmpty()
+    * @post return.stream().allMatch(f -> f.getName().equals(fieldName))
+    */
+   public static List<Field> getFields(Class<?> type, String fieldName) {
+      assert type != null : "The 'type' parameter cannot be null.";
+      assert fieldName != null : "The 'fieldName' parameter cannot be null.";
+      assert !fieldName.isEmpty() : "The 'fieldName' parameter cannot be empty.";
+
+      return ReflectionUtils.fieldIndexes.get(type).getFields(fieldName);
+   }
+
    /**
     * Sets the given field on the given object to the given value.
     *
@@ -127,10 +169,180 @@ public class ReflectionUtils {
       }
    }
 
+   /**
+    * Returns a {@linkplain MethodHandle method handle} which sets the given field on an object to a value. The returned method handle is
+    * resolved once and has the type {@code (Object, Object)void}, so it can be invoked repeatedly with {@link MethodHandle#invokeExact}
+    * without the access checks performed by {@link Field#set}. If the field is {@code static}, the object is ignored, as it is by
+    * {@link Field#set}.
+    *
+    * @throws IllegalArgumentException if the field cannot be made accessible
+    *
+    * @pre field != null
+    * @post return.type().equals(MethodType.methodType(void.class, Object.class, Object.class))
+    */
+   public static MethodHandle findSetter(Field field) {
+      assert field != null;
+
+      try {
+         return ReflectionUtils.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+      }
+      catch (final SecurityException | IllegalAccessException e) {
+         throw new IllegalArgumentException(e.getMessage(), e);
+      }
+   }
+
+   /**
+    * Returns a {@linkplain MethodHandle method handle} which sets the given primitive field on an object to a primitive value. The returned
+    * method handle has the type {@code (Object, P)void}, where {@code P} is the primitive type of the field, so it can be invoked
+    * repeatedly with {@link MethodHandle#invokeExact} without boxing the value. If the field is {@code static}, the object is ignored.
+    *
+    * @throws IllegalArgumentException if the field cannot be made accessible
+    *
+    * @pre field.getType().isPrimitive()
+    * @post return.type().equals(MethodType.methodType(void.class, Object.class, field.getType()))
+    */
+   public static MethodHandle findPrimitiveSetter(Field field) {
+      assert field != null;
+      assert field.getType().isPrimitive();
+
+      try {
+         return ReflectionUtils.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, field.getType()));
+      }
+      catch (final SecurityException | IllegalAccessException e) {
+         throw new IllegalArgumentException(e.getMessage(), e);
+      }
+   }
+
+   /**
+    * Returns a {@linkplain MethodHandle method handle} which sets the given field on an object to a value, after making the field
+    * accessible. The returned method handle has a leading receiver parameter even if the field is {@code static}, in which case the
+    * receiver is dropped, so that static and instance setters have the same shape.
+    *
+    * @throws IllegalAccessException if the field cannot be accessed
+    *
+    * @pre field != null
+    * @post return.type().parameterCount() == 2
+    */
+   private static MethodHandle unreflectSetter(Field field) throws IllegalAccessException {
+      field.setAccessible(true);
+      final MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+
+      return Modifier.isStatic(field.getModifiers()) ? MethodHandles.dropArguments(setter, 0, Object.class) : setter;
+   }
+
+   /**
+    * Finds the public constructor of the given type that is the most specific match for the given list of constructor arguments. If the
+    * given list of constructor arguments contains a {@linkplain ValueGenerator value generator}, the value generator's
+    * {@linkplain ValueGenerator#getValueType value type} is used to match the corresponding constructor parameter, and a value generator
+    * which {@linkplain ValueGenerator#canGenerateNull can generate null values} never matches a primitive constructor parameter. A
+    * {@code null} constructor argument matches any non-primitive constructor parameter.
+    * <p>
+    * Primitive constructor parameters are matched as their wrapper types, so a constructor with an {@code int} parameter and one with an
+    * {@link Integer} parameter in the same position are equally specific.
+    *
+    * @throws IllegalArgumentException if no constructor matches the given list of constructor arguments, or if the match is ambiguous
+    *
+    * @pre type != null
+    * @pre constructorArgs != null
+    * @post return.getDeclaringClass().equals(type)
+    */
+   @SuppressWarnings("unchecked")
+   public static <T> Constructor<T> findConstructor(Class<T> type, List<?> constructorArgs) {
+      assert type != null;
+      assert constructorArgs != null;
+
+      final List<Constructor<?>> applicableConstructors = new ArrayList<>();
+      for (final Constructor<?> constructor : type.getConstructors()) {
+         if (ReflectionUtils.isApplicable(constructor, constructorArgs)) {
+            applicableConstructors.add(constructor);
+         }
+      }
+
+      // Find the constructors which are at least as specific as every other applicable constructor.
+      final List<Constructor<?>> mostSpecificConstructors = new ArrayList<>();
+      for (final Constructor<?> constructor : applicableConstructors) {
+         boolean mostSpecific = true;
+         for (final Constructor<?> otherConstructor : applicableConstructors) {
+            if (!ReflectionUtils.isAtLeastAsSpecific(constructor, otherConstructor)) {
+               mostSpecific = false;
+               break;
+            }
+         }
+
+         if (mostSpecific) {
+            mostSpecificConstructors.add(constructor);
+         }
+      }
+
+      if (mostSpecificConstructors.size() != 1) {
+         throw new IllegalArgumentException(
+            String.format("Could not construct an instance of '%s' using the resolved list of constructor arguments: %s", type,
+               constructorArgs));
+      }
+
+      return (Constructor<T>)mostSpecificConstructors.get(0);
+   }
+
+   /**
+    * Returns a {@linkplain MethodHandle method handle} which invokes the given constructor. The returned method handle has the type
+    * {@code (Object[])Object}, accepting the constructor arguments as an array, so it can be invoked repeatedly with
+    * {@link MethodHandle#invokeExact} without resolving the constructor again.
+    *
+    * @throws IllegalArgumentException if the constructor cannot be made accessible
+    *
+    * @pre constructor != null
+    * @post return.type().equals(MethodType.methodType(Object.class, Object[].class))
+    */
+   public static MethodHandle findInstantiator(Constructor<?> constructor) {
+      assert constructor != null;
+
+      try {
+         constructor.setAccessible(true);
+         return MethodHandles.lookup().unreflectConstructor(constructor)
+            .asSpreader(Object[].class, constructor.getParameterCount())
+            .asType(MethodType.methodType(Object.class, Object[].class));
+      }
+      catch (final SecurityException | IllegalAccessException e) {
+         throw new IllegalArgumentException(e.getMessage(), e);
+      }
+   }
+
+   /**
+    * Returns a {@linkplain MethodHandle method handle} which invokes the public {@code clone} method of the given type, or {@code null} if
+    * the given type does not implement {@link Cloneable} or does not have a public {@code clone} method. The returned method handle has the
+    * type {@code (Object)Object}, so it can be invoked repeatedly with {@link MethodHandle#invokeExact}.
+    *
+    * @throws IllegalArgumentException if the clone method cannot be made accessible
+    *
+    * @pre type != null
+    * @post return == null || return.type().equals(MethodType.methodType(Object.class, Object.class))
+    */
+   public static MethodHandle findCloner(Class<?> type) {
+      assert type != null : "The 'type' parameter cannot be null.";
+
+      if (!Cloneable.class.isAssignableFrom(type)) {
+         return null;
+      }
+
+      try {
+         final Method cloneMethod = type.getMethod("clone");
+         cloneMethod.setAccessible(true);
+         return MethodHandles.lookup().unreflect(cloneMethod).asType(MethodType.methodType(Object.class, Object.class));
+      }
+      catch (final NoSuchMethodException e) {
+         // Object#clone is protected, so only types which override it with a public method can be cloned.
+         return null;
+      }
+      catch (final SecurityException | IllegalAccessException e) {
+         throw new IllegalArgumentException(e.getMessage(), e);
+      }
+   }
+
    /**
     * Creates a new instance of the given type using the given list of constructor arguments. If the given list of constructor arguments
     * contains a {@linkplain ValueGenerator value generator}, the value resulting from {@link ValueGenerator#generateValue} is used during
-    * construction of the new instance.
+    * construction of the new instance. The constructor is chosen as described by {@link #findConstructor}, using the resolved constructor
+    * arguments.
     *
     * @throws IllegalArgumentException if there is an exception thrown when creating the new instance
     *
@@ -154,9 +366,9 @@ public class ReflectionUtils {
       }
 
       try {
-         return type.cast(new Expression(type, "new", resolvedConstructorArgValues.toArray()).getValue());
+         return ReflectionUtils.findConstructor(type, resolvedConstructorArgValues).newInstance(resolvedConstructorArgValues.toArray());
       }
-      catch (final Exception e) {
+      catch (final InvocationTargetException | InstantiationException | IllegalAccessException | IllegalArgumentException e) {
          throw new IllegalArgumentException(
             String.format("Could not construct an instance of '%s' using the resolved list of constructor arguments: %s", type,
                resolvedConstructorArgValues),
@@ -164,4 +376,244 @@ public class ReflectionUtils {
       }
    }
 
+   /**
+    * Returns true if the given constructor can be invoked with the given list of constructor arguments, as described by
+    * {@link #findConstructor}.
+    *
+    * @pre constructor != null
+    * @pre constructorArgs != null
+    */
+   private static boolean isApplicable(Constructor<?> constructor, List<?> constructorArgs) {
+      final Class<?>[] parameterTypes = constructor.getParameterTypes();
+      if (parameterTypes.length != constructorArgs.size()) {
+         return false;
+      }
+
+      for (int x = 0; x < parameterTypes.length; x++) {
+         final Object valueOrValueGenerator = constructorArgs.get(x);
+
+         if (valueOrValueGenerator == null) {
+            if (parameterTypes[x].isPrimitive()) {
+               return false;
+            }
+         }
+         else if (valueOrValueGenerator instanceof ValueGenerator) {
+            final ValueGenerator<?> valueGenerator = (ValueGenerator<?>)valueOrValueGenerator;
+
+            if (parameterTypes[x].isPrimitive() && valueGenerator.canGenerateNull()) {
+               return false;
+            }
+
+            if (!ReflectionUtils.wrap(parameterTypes[x]).isAssignableFrom(valueGenerator.getValueType())) {
+               return false;
+            }
+         }
+         else if (!ReflectionUtils.wrap(parameterTypes[x]).isAssignableFrom(valueOrValueGenerator.getClass())) {
+            return false;
+         }
+      }
+
+      return true;
+   }
+
+   /**
+    * Returns true if every parameter of constructor A can be passed to the corresponding parameter of constructor B, treating primitive
+    * parameters as their wrapper types.
+    *
+    * @pre constructorA.getParameterCount() == constructorB.getParameterCount()
+    */
+   private static boolean isAtLeastAsSpecific(Constructor<?> constructorA, Constructor<?> constructorB) {
+      final Class<?>[] parameterTypesA = constructorA.getParameterTypes();
+      final Class<?>[] parameterTypesB = constructorB.getParameterTypes();
+
+      for (int x = 0; x < parameterTypesA.length; x++) {
+         if (!ReflectionUtils.wrap(parameterTypesB[x]).isAssignableFrom(ReflectionUtils.wrap(parameterTypesA[x]))) {
+            return false;
+         }
+      }
+
+      return true;
+   }
+
+   /**
+    * Returns the wrapper type for the given type if it is {@linkplain Class#isPrimitive primitive}, otherwise returns the given type.
+    *
+    * @pre type != null
+    * @post !return.isPrimitive()
+    */
+   private static Class<?> wrap(Class<?> type) {
+      if (type.equals(Boolean.TYPE)) {
+         return Boolean.class;
+      }
+
+      else if (type.equals(Byte.TYPE)) {
+         return Byte.class;
+      }
+
+      else if (type.equals(Character.TYPE)) {
+         return Character.class;
+      }
+
+      else if (type.equals(Double.TYPE)) {
+         return Double.class;
+      }
+
+      else if (type.equals(Float.TYPE)) {
+         return Float.class;
+      }
+
+      else if (type.equals(Integer.TYPE)) {
+         return Integer.class;
+      }
+
+      else if (type.equals(Long.TYPE)) {
+         return Long.class;
+      }
+
+      else if (type.equals(Short.TYPE)) {
+         return Short.class;
+      }
+
+      return type;
+   }
+
+   /**
+    * {@code FieldIndex} holds the fields declared by a type and its parents, as returned by {@link ReflectionUtils#getFields}. The index of
+    * a type only holds the fields declared by the type itself, and refers to the index of its superclass for the rest, so the lists of the
+    * superclass are shared rather than copied.
+    */
+   private static final class FieldIndex {
+
+      /**
+       * Creates a new {@code FieldIndex} for the given type.
+       *
+       * @pre type != null
+       */
+      private FieldIndex(Class<?> type) {
+         final Class<?> superclass = type.getSuperclass();
+         this.parent = superclass == null ? null : ReflectionUtils.fieldIndexes.get(superclass);
+
+         final List<Field> declaredFields = Collections.unmodifiableList(Arrays.asList(type.getDeclaredFields()));
+         this.fields = this.parent == null ? declaredFields : new ConcatenatedList<>(this.parent.fields, declaredFields);
+
+         // A class cannot declare two fields with the same name, so each declared field goes in front of the fields its parents declared.
+         this.fieldsByName = new HashMap<>();
+         for (final Field field : declaredFields) {
+            final List<Field> parentFields = this.parent == null ? Collections.<Field>emptyList() : this.parent.getFields(field.getName());
+            this.fieldsByName.put(field.getName(), new ConcatenatedList<>(Collections.singletonList(field), parentFields));
+         }
+      }
+
+      /**
+       * Returns the fields with the given name declared by the indexed type and its parents, starting from the indexed type. Names which
+       * the indexed type does not declare are looked up in the index of its superclass.
+       *
+       * @post return != null
+       */
+      private List<Field> getFields(String fieldName) {
+         for (FieldIndex fieldIndex = this; fieldIndex != null; fieldIndex = fieldIndex.parent) {
+            final List<Field> fields = fieldIndex.fieldsByName.get(fieldName);
+            if (fields != null) {
+               return fields;
+            }
+         }
+
+         return Collections.emptyList();
+      }
+
+      /**
+       * The index of the indexed type's superclass, or {@code null} if it does not have one.
+       */
+      private final FieldIndex parent;
+
+      /**
+       * Every field declared by the indexed type and its parents, with fields declared by parents first.
+       *
+       * @invariant fields != null
+       */
+      private final List<Field> fields;
+
+      /**
+       * The map of the names of the fields declared by the indexed type to the fields with that name declared by the indexed type and its
+       * parents, starting from the indexed type.
+       *
+       * @invariant fieldsByName.values().stream().noneMatch(List::isEmpty)
+       */
+      private final Map<String, List<Field>> fieldsByName;
+
+   }
+
+   /**
+    * {@code ConcatenatedList} is an unmodifiable view of one list followed by another, which lets a {@link FieldIndex} extend the lists of
+    * its superclass's index without copying them.
+    */
+   private static final class ConcatenatedList<E> extends AbstractList<E> {
+
+      /**
+       * Creates a new {@code ConcatenatedList} of the given lists, which must not be modified afterwards.
+       *
+       * @pre first != null
+       * @pre second != null
+       */
+      private ConcatenatedList(List<E> first, List<E> second) {
+         this.first = first;
+         this.second = second;
+         this.size = first.size() + second.size();
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public E get(int index) {
+         final int firstSize = this.first.size();
+         return index < firstSize ? this.first.get(index) : this.second.get(index - firstSize);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int size() {
+         return this.size;
+      }
+
+      /**
+       * The list whose elements come first.
+       *
+       * @invariant first != null
+       */
+      private final List<E> first;
+
+      /**
+       * The list whose elements come after the elements of {@code first}.
+       *
+       * @invariant second != null
+       */
+      private final List<E> second;
+
+      /**
+       * The combined size of both lists.
+       *
+       * @invariant size == first.size() + second.size()
+       */
+      private final int size;
+
+   }
+
+   /**
+    * The field index of each type whose fields have been requested. Since the index is held by a {@link ClassValue}, it does not prevent
+    * the type from being unloaded.
+    *
+    * @invariant fieldIndexes != null
+    */
+   private static final ClassValue<FieldIndex> fieldIndexes = new ClassValue<FieldIndex>() {
+
+      @Override
+      protected FieldIndex computeValue(Class<?> type) {
+         return new FieldIndex(type);
+      }
+
+   };
+
 }
@@ -0,0 +1,53 @@
+package ar.wildstyle.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Contains classpath resource utility methods.
+ *
+ * @author Adam Rosini
+ */
+public class ResourceUtils {
+
+   /**
+    * Returns the distinct lines of the classpath resource with the given name, in the order they first appear in the resource, as an
+    * unmodifiable list. The resource is read as UTF-8 from a stream using the given class loader, so it can be read whether it is a file
+    * or an entry in a jar.
+    *
+    * @throws IOException if the resource could not be found or read
+    *
+    * @pre classLoader != null
+    * @pre !resourceName.isEmpty()
+    * @post return != null
+    */
+   public static List<String> readDistinctLines(ClassLoader classLoader, String resourceName) throws IOException {
+      assert classLoader != null : "The 'classLoader' parameter cannot be null.";
+      assert resourceName != null : "The 'resourceName' parameter cannot be null.";
+      assert !resourceName.isEmpty() : "The 'resourceName' parameter cannot be empty.";
+
+      final InputStream inputStream = classLoader.getResourceAsStream(resourceName);
+      if (inputStream == null) {
+         throw new IOException(String.format("Could not find the '%s' resource.", resourceName));
+      }
+
+      final Set<String> lines = new LinkedHashSet<>();
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+         String line;
+         while ((line = reader.readLine()) != null) {
+            lines.add(line);
+         }
+      }
+
+      return Collections.unmodifiableList(Arrays.asList(lines.toArray(new String[lines.size()])));
+   }
+
+}
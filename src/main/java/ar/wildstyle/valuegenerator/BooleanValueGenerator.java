@@ -1,13 +1,16 @@
 package ar.wildstyle.valuegenerator;
 
 import java.util.Random;
+import java.util.SplittableRandom;
+
+import ar.wildstyle.util.RandomUtils;
 
 /**
  * {@code BooleanValueGenerator} is an implementation of {@link ValueGenerator} that generates {@link Boolean} values.
  *
  * @author Adam Rosini
  */
-public class BooleanValueGenerator implements ValueGenerator<Boolean> {
+public class BooleanValueGenerator implements ValueGenerator.OfBoolean {
 
    /**
     * The default percent chance that a {@code true} {@link Boolean} will be {@linkplain #generateValue generated} by instances of this
@@ -57,7 +60,20 @@ public class BooleanValueGenerator implements ValueGenerator<Boolean> {
 
       this.trueChance = trueChance;
       this.nullChance = nullChance;
-      this.random = new Random();
+      this.random = null;
+   }
+
+   /**
+    * Creates a new {@code BooleanValueGenerator} with the same configuration as the given {@code BooleanValueGenerator}, which uses the
+    * given random instance. This constructor is only for internal use.
+    *
+    * @pre booleanValueGenerator != null
+    * @pre random != null
+    */
+   private BooleanValueGenerator(BooleanValueGenerator booleanValueGenerator, Random random) {
+      this.trueChance = booleanValueGenerator.trueChance;
+      this.nullChance = booleanValueGenerator.nullChance;
+      this.random = random;
    }
 
    /**
@@ -65,11 +81,30 @@ public class BooleanValueGenerator implements ValueGenerator<Boolean> {
     */
    @Override
    public Boolean generateValue() {
-      if (this.random.nextInt(100) < this.nullChance) {
+      final Random random = RandomUtils.current(this.random);
+
+      if (random.nextInt(100) < this.nullChance) {
          return null;
       }
 
-      return this.random.nextInt(100) < this.trueChance;
+      return this.generateBoolean(random);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public boolean generateBoolean() {
+      return this.generateBoolean(RandomUtils.current(this.random));
+   }
+
+   /**
+    * Generates and returns a {@code boolean} value using the given random instance, without the chance of generating a {@code null} value.
+    *
+    * @pre random != null
+    */
+   private boolean generateBoolean(Random random) {
+      return random.nextInt(100) < this.trueChance;
    }
 
    /**
@@ -80,6 +115,26 @@ public class BooleanValueGenerator implements ValueGenerator<Boolean> {
       return Boolean.class;
    }
 
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      int characteristics = ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC | ValueGenerator.PRIMITIVE;
+
+      characteristics |= ValueGenerator.nullChanceCharacteristics(this.nullChance);
+
+      return characteristics;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public BooleanValueGenerator split(SplittableRandom random) {
+      return new BooleanValueGenerator(this, new Random(random.nextLong()));
+   }
+
    /**
     * The percent chance that a {@code true} value is {@linkplain #generateValue generated} by this value generator, if the generated value
     * is not {@code null}.
@@ -95,9 +150,8 @@ public class BooleanValueGenerator implements ValueGenerator<Boolean> {
    private final double nullChance;
 
    /**
-    * The random instance associated with this value generator.
-    *
-    * @invariant random != null
+    * The random instance associated with this value generator if it was {@linkplain #split split}, or {@code null} if the current thread's
+    * random instance is used.
     */
    private final Random random;
 
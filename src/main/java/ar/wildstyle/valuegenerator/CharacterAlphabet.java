@@ -0,0 +1,150 @@
+package ar.wildstyle.valuegenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * {@code CharacterAlphabet} is a list of characters compiled into a {@code char} table, which is used by {@link CharacterValueGenerator}
+ * and {@link StringValueGenerator} to select random characters. Each character in the list is equally likely to be selected, so a
+ * character which appears in the list more than once is more likely to be selected than a character which appears in it once.
+ * <p>
+ * Strings are generated by drawing as many characters as possible from each random {@code long}: the random bits are consumed in chunks
+ * just wide enough to index the table, and a chunk which does not index the table is discarded, so every character remains equally likely.
+ * Chunks are taken from the high-order bits first, since the low-order bits of each half of a {@link Random#nextLong} have short periods.
+ * When every character in the alphabet is in the Latin-1 range, strings are built from a {@code byte} array.
+ *
+ * @author Adam Rosini
+ */
+final class CharacterAlphabet {
+
+   /**
+    * Creates a new {@code CharacterAlphabet} containing the given characters. Later changes to the given list do not affect the created
+    * alphabet.
+    *
+    * @pre !characters.isEmpty()
+    * @pre !characters.contains(null)
+    */
+   CharacterAlphabet(List<Character> characters) {
+      assert characters != null : "The 'characters' parameter cannot be null.";
+      assert !characters.isEmpty() : "The 'characters' parameter cannot be empty.";
+
+      this.characters = new char[characters.size()];
+      boolean latin1 = true;
+      for (int x = 0; x < this.characters.length; x++) {
+         this.characters[x] = characters.get(x);
+         latin1 &= this.characters[x] <= 0xFF;
+      }
+
+      this.latin1 = latin1;
+      this.bits = 32 - Integer.numberOfLeadingZeros(this.characters.length - 1);
+      this.shift = Long.SIZE - this.bits;
+      this.charactersPerLong = this.bits == 0 ? Integer.MAX_VALUE : Long.SIZE / this.bits;
+   }
+
+   /**
+    * Returns a random character from this alphabet, using the given random instance.
+    *
+    * @pre random != null
+    */
+   char nextChar(Random random) {
+      return this.characters[random.nextInt(this.characters.length)];
+   }
+
+   /**
+    * Returns a string of the given length made up of random characters from this alphabet, using the given random instance.
+    *
+    * @pre random != null
+    * @pre length >= 0
+    * @post return.length() == length
+    */
+   String nextString(Random random, int length) {
+      // A single character does not need any random bits, and cannot be selected by shifting a long by its full width.
+      if (this.bits == 0) {
+         final char[] chars = new char[length];
+         Arrays.fill(chars, this.characters[0]);
+         return new String(chars);
+      }
+
+      if (this.latin1) {
+         final byte[] bytes = new byte[length];
+         this.drawIndexes(random, length, (x, index) -> bytes[x] = (byte)this.characters[index]);
+         return new String(bytes, StandardCharsets.ISO_8859_1);
+      }
+
+      final char[] chars = new char[length];
+      this.drawIndexes(random, length, (x, index) -> chars[x] = this.characters[index]);
+      return new String(chars);
+   }
+
+   /**
+    * Draws {@code count} random indexes into this alphabet's characters using the given random instance, and passes each of them to the
+    * given index sink along with its position, in order. The indexes are taken from the high-order bits of each random {@code long} first,
+    * and a chunk of bits which does not index a character is discarded.
+    *
+    * @pre random != null
+    * @pre count >= 0
+    * @pre indexSink != null
+    * @pre bits > 0
+    */
+   private void drawIndexes(Random random, int count, IndexSink indexSink) {
+      int x = 0;
+      while (x < count) {
+         long randomBits = random.nextLong();
+         for (int y = 0; y < this.charactersPerLong && x < count; y++, randomBits <<= this.bits) {
+            final int index = (int)(randomBits >>> this.shift);
+            if (index < this.characters.length) {
+               indexSink.accept(x++, index);
+            }
+         }
+      }
+   }
+
+   /**
+    * {@code IndexSink} receives the indexes drawn by {@link CharacterAlphabet#drawIndexes}.
+    */
+   @FunctionalInterface
+   private interface IndexSink {
+
+      /**
+       * Accepts the given index into the alphabet's characters, drawn for the given position.
+       */
+      void accept(int position, int index);
+
+   }
+
+   /**
+    * The characters in this alphabet.
+    *
+    * @invariant characters.length > 0
+    */
+   private final char[] characters;
+
+   /**
+    * Indicates if every character in this alphabet is in the Latin-1 range.
+    */
+   private final boolean latin1;
+
+   /**
+    * The number of random bits needed to index any character in this alphabet.
+    *
+    * @invariant (1L << bits) >= characters.length
+    */
+   private final int bits;
+
+   /**
+    * The distance a random {@code long} is shifted to the right to select its highest {@link #bits} bits.
+    *
+    * @invariant shift == Long.SIZE - bits
+    */
+   private final int shift;
+
+   /**
+    * The number of characters which can be drawn from a single random {@code long}.
+    *
+    * @invariant charactersPerLong >= 1
+    */
+   private final int charactersPerLong;
+
+}
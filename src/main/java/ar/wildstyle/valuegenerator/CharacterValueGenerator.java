@@ -3,13 +3,16 @@ package ar.wildstyle.valuegenerator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.SplittableRandom;
+
+import ar.wildstyle.util.RandomUtils;
 
 /**
  * {@code CharacterValueGenerator} is an implementation of {@link ValueGenerator} that generates {@link Character} values.
  *
  * @author Adam Rosini
  */
-public class CharacterValueGenerator implements ValueGenerator<Character> {
+public class CharacterValueGenerator implements ValueGenerator.OfChar {
 
    /**
     * The default list of values generated by instances of this class.
@@ -60,7 +63,8 @@ public class CharacterValueGenerator implements ValueGenerator<Character> {
 
    /**
     * Creates a new {@code CharacterValueGenerator} that will generate {@link Character} values found in {@code allowableCharacters}, with a
-    * {@code nullChance} percent chance of generating a {@code null} value.
+    * {@code nullChance} percent chance of generating a {@code null} value. The allowable characters are compiled into a
+    * {@linkplain CharacterAlphabet character alphabet} when this value generator is created, so later changes to the list have no effect.
     *
     * @pre !allowableCharacters.isEmpty()
     * @pre nullChance >= 0
@@ -72,9 +76,22 @@ public class CharacterValueGenerator implements ValueGenerator<Character> {
       assert nullChance >= 0 : "The 'nullChance' parameter must be greater than or equal to 0.";
       assert nullChance <= 100 : "The 'nullChance' parameter must be less than or equal to 100.";
 
-      this.allowableCharacters = allowableCharacters;
+      this.alphabet = new CharacterAlphabet(allowableCharacters);
       this.nullChance = nullChance;
-      this.random = new Random();
+      this.random = null;
+   }
+
+   /**
+    * Creates a new {@code CharacterValueGenerator} with the same configuration as the given {@code CharacterValueGenerator}, which uses the
+    * given random instance. This constructor is only for internal use.
+    *
+    * @pre characterValueGenerator != null
+    * @pre random != null
+    */
+   private CharacterValueGenerator(CharacterValueGenerator characterValueGenerator, Random random) {
+      this.alphabet = characterValueGenerator.alphabet;
+      this.nullChance = characterValueGenerator.nullChance;
+      this.random = random;
    }
 
    /**
@@ -82,11 +99,30 @@ public class CharacterValueGenerator implements ValueGenerator<Character> {
     */
    @Override
    public Character generateValue() {
-      if (this.random.nextInt(100) < this.nullChance) {
+      final Random random = RandomUtils.current(this.random);
+
+      if (random.nextInt(100) < this.nullChance) {
          return null;
       }
 
-      return this.allowableCharacters.get(this.random.nextInt(this.allowableCharacters.size()));
+      return this.generateChar(random);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public char generateChar() {
+      return this.generateChar(RandomUtils.current(this.random));
+   }
+
+   /**
+    * Generates and returns a {@code char} value using the given random instance, without the chance of generating a {@code null} value.
+    *
+    * @pre random != null
+    */
+   private char generateChar(Random random) {
+      return this.alphabet.nextChar(random);
    }
 
    /**
@@ -98,11 +134,31 @@ public class CharacterValueGenerator implements ValueGenerator<Character> {
    }
 
    /**
-    * The list of characters that a value {@linkplain #generateValue generated} by this value generator will be chosen from.
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      int characteristics = ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC | ValueGenerator.PRIMITIVE;
+
+      characteristics |= ValueGenerator.nullChanceCharacteristics(this.nullChance);
+
+      return characteristics;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public CharacterValueGenerator split(SplittableRandom random) {
+      return new CharacterValueGenerator(this, new Random(random.nextLong()));
+   }
+
+   /**
+    * The alphabet of characters that a value {@linkplain #generateValue generated} by this value generator is selected from.
     *
-    * @invariant allowableCharacters != null
+    * @invariant alphabet != null
     */
-   private final List<Character> allowableCharacters;
+   private final CharacterAlphabet alphabet;
 
    /**
     * The percent chance that a {@code null} value is {@linkplain #generateValue generated} by this value generator.
@@ -113,9 +169,8 @@ public class CharacterValueGenerator implements ValueGenerator<Character> {
    private final double nullChance;
 
    /**
-    * The random instance associated with this value generator.
-    *
-    * @invariant random != null
+    * The random instance associated with this value generator if it was {@linkplain #split split}, or {@code null} if the current thread's
+    * random instance is used.
     */
    private final Random random;
 }
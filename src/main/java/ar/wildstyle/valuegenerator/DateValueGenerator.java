@@ -1,6 +1,7 @@
 package ar.wildstyle.valuegenerator;
 
 import java.util.Date;
+import java.util.SplittableRandom;
 
 /**
  * {@code DateValueGenerator} is an implementation of {@link ValueGenerator} that generates {@link Date} values.
@@ -70,6 +71,16 @@ public class DateValueGenerator implements ValueGenerator<Date> {
       this.longValueGenerator = new LongValueGenerator(minEpochTime, maxEpochTime, nullChance);
    }
 
+   /**
+    * Creates a new {@code DateValueGenerator} which generates Epoch times using the given long value generator. This constructor is only
+    * for internal use.
+    *
+    * @pre longValueGenerator != null
+    */
+   private DateValueGenerator(LongValueGenerator longValueGenerator) {
+      this.longValueGenerator = longValueGenerator;
+   }
+
    /**
     * {@inheritDoc}
     */
@@ -87,6 +98,23 @@ public class DateValueGenerator implements ValueGenerator<Date> {
       return Date.class;
    }
 
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      // Dates are generated from the long value generator's values, but are never primitive.
+      return this.longValueGenerator.characteristics() & ~ValueGenerator.PRIMITIVE;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public DateValueGenerator split(SplittableRandom random) {
+      return new DateValueGenerator(this.longValueGenerator.split(random));
+   }
+
    /**
     * The long value generator associated with this date value generator.
     */
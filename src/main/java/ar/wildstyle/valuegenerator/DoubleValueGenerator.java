@@ -1,14 +1,16 @@
 package ar.wildstyle.valuegenerator;
 
-import java.math.BigDecimal;
 import java.util.Random;
+import java.util.SplittableRandom;
+
+import ar.wildstyle.util.RandomUtils;
 
 /**
  * {@code DoubleValueGenerator} is an implementation of {@link ValueGenerator} that generates {@link Double} values.
  *
  * @author Adam Rosini
  */
-public class DoubleValueGenerator implements ValueGenerator<Double> {
+public class DoubleValueGenerator implements ValueGenerator.OfDouble {
 
    /**
     * The default minimum value of an {@link Double} {@linkplain #generateValue generated} by instances of this class.
@@ -71,10 +73,24 @@ public class DoubleValueGenerator implements ValueGenerator<Double> {
       assert nullChance >= 0 : "The 'nullChance' parameter must be greater than or equal to 0.";
       assert nullChance <= 100 : "The 'nullChance' parameter must be less than or equal to 100.";
 
-      this.min = BigDecimal.valueOf(min);
-      this.max = BigDecimal.valueOf(max);
+      this.min = min;
+      this.max = max;
       this.nullChance = nullChance;
-      this.random = new Random();
+      this.random = null;
+   }
+
+   /**
+    * Creates a new {@code DoubleValueGenerator} with the same configuration as the given {@code DoubleValueGenerator}, which uses the given
+    * random instance. This constructor is only for internal use.
+    *
+    * @pre doubleValueGenerator != null
+    * @pre random != null
+    */
+   private DoubleValueGenerator(DoubleValueGenerator doubleValueGenerator, Random random) {
+      this.min = doubleValueGenerator.min;
+      this.max = doubleValueGenerator.max;
+      this.nullChance = doubleValueGenerator.nullChance;
+      this.random = random;
    }
 
    /**
@@ -82,14 +98,35 @@ public class DoubleValueGenerator implements ValueGenerator<Double> {
     */
    @Override
    public Double generateValue() {
-      if (this.random.nextInt(100) < this.nullChance) {
+      final Random random = RandomUtils.current(this.random);
+
+      if (random.nextInt(100) < this.nullChance) {
          return null;
       }
 
-      final BigDecimal range = this.max.subtract(this.min);
-      final BigDecimal randomValueInRange = BigDecimal.valueOf(this.random.nextDouble()).multiply(range);
+      return this.generateDouble(random);
+   }
 
-      return randomValueInRange.add(this.min).doubleValue();
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public double generateDouble() {
+      return this.generateDouble(RandomUtils.current(this.random));
+   }
+
+   /**
+    * Generates and returns a {@code double} value using the given random instance, without the chance of generating a {@code null} value.
+    *
+    * @pre random != null
+    */
+   private double generateDouble(Random random) {
+      // Interpolate between the bounds rather than computing min + u * (max - min), since the difference can overflow to infinity.
+      final double u = random.nextDouble();
+      final double value = (1 - u) * this.min + u * this.max;
+
+      // Rounding may place the value just outside of the bounds.
+      return Math.min(Math.max(value, this.min), this.max);
    }
 
    /**
@@ -100,19 +137,39 @@ public class DoubleValueGenerator implements ValueGenerator<Double> {
       return Double.class;
    }
 
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      int characteristics = ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC | ValueGenerator.PRIMITIVE;
+
+      characteristics |= ValueGenerator.nullChanceCharacteristics(this.nullChance);
+
+      return characteristics;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public DoubleValueGenerator split(SplittableRandom random) {
+      return new DoubleValueGenerator(this, new Random(random.nextLong()));
+   }
+
    /**
     * The minimum possible value (inclusive) of a {@link Double} {@linkplain #generateValue generated} by this value generator.
     *
-    * @invariant min.compareTo(max) <= 0
+    * @invariant min <= max
     */
-   private final BigDecimal min;
+   private final double min;
 
    /**
     * The maximum possible value (inclusive) of a {@link Double} {@linkplain #generateValue generated} by this value generator.
     *
-    * @invariant max.compareTo(min) >= 0
+    * @invariant max >= min
     */
-   private final BigDecimal max;
+   private final double max;
 
    /**
     * The percent chance that a {@code null} value is {@linkplain #generateValue generated} by this value generator.
@@ -123,9 +180,8 @@ public class DoubleValueGenerator implements ValueGenerator<Double> {
    private final double nullChance;
 
    /**
-    * The random instance associated with this value generator.
-    *
-    * @invariant random != null
+    * The random instance associated with this value generator if it was {@linkplain #split split}, or {@code null} if the current thread's
+    * random instance is used.
     */
    private final Random random;
 
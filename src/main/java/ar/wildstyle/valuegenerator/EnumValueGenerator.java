@@ -1,8 +1,7 @@
 package ar.wildstyle.valuegenerator;
 
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Collections;
 
 /**
  * {@code EnumValueGenerator} is an implementation of {@link ValueGenerator} which generates {@code Enum} values of type {@code E}.
@@ -14,6 +13,9 @@ public class EnumValueGenerator<E extends Enum<E>> extends SetBasedValueGenerato
     * {@code enumType} will be generated an equal number of times before any enum value is generated again. For example, all enum values
     * will be generated once, then all enum values will be generated twice, and so on. If {@code uniqueSelections} is false, any enum value
     * in {@code enumType} may be generated at any time.
+    * <p>
+    * Enum values are selected by their ordinal, so a {@linkplain #split split} enum value generator selects the same enum values for the
+    * same seed on every run.
     *
     * @pre enumType != null
     * @pre enumType.getEnumConstants().length > 0
@@ -21,21 +23,9 @@ public class EnumValueGenerator<E extends Enum<E>> extends SetBasedValueGenerato
     * @see SetBasedValueGenerator#SetBasedValueGenerator
     */
    public EnumValueGenerator(Class<E> enumType, boolean uniqueSelections) {
-      // Precondition asserted by the call to "this(...)".
-      this(enumType, enumType == null ? null : new HashSet<E>(Arrays.asList(enumType.getEnumConstants())), uniqueSelections);
-   }
-
-   /**
-    * Creates a new {@code EnumValueGenerator}. This constructor is only for internal use.
-    *
-    * @pre valueType != null
-    * @pre !values.isEmpty()
-    *
-    * @see SetBasedValueGenerator#SetBasedValueGenerator
-    */
-   private EnumValueGenerator(Class<E> valueType, Set<E> values, boolean uniqueSelections) {
-      // Precondition(s) asserted by the call to "this(...)".
-      super(valueType, values, uniqueSelections);
+      // Precondition(s) asserted by the call to "super(...)".
+      super(enumType, enumType == null ? null : Collections.unmodifiableList(Arrays.asList(enumType.getEnumConstants())), uniqueSelections,
+         true);
    }
 
 }
@@ -1,16 +1,16 @@
 package ar.wildstyle.valuegenerator;
 
-import java.io.File;
 import java.io.IOException;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.file.Files;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+
+import ar.wildstyle.util.ResourceUtils;
 
 /**
  * {@code FirstNameValueGenerator} is an implementation of {@link ValueGenerator} which generates {@link String} values which represent
  * first names.
+ * <p>
+ * The first names are read from {@value #FIRST_NAMES_FILE} the first time a {@code FirstNameValueGenerator} is created, and are shared by
+ * all {@code FirstNameValueGenerator} instances.
  */
 public class FirstNameValueGenerator extends SetBasedValueGenerator<String> {
 
@@ -25,37 +25,38 @@ public class FirstNameValueGenerator extends SetBasedValueGenerator<String> {
     * generated twice, and so on. If {@code uniqueSelections} is false, any first name may be generated at any time.
     */
    public FirstNameValueGenerator(boolean uniqueSelections) {
-      this(String.class, FirstNameValueGenerator.getFirstNames(), uniqueSelections);
+      super(String.class, FirstNames.VALUES, uniqueSelections, true);
    }
 
    /**
-    * Returns the set of first names from {@value #FIRST_NAMES_FILE}.
-    *
-    * @pre // Files.readAllLines(new File(FIRST_NAMES_FILE).toPath()) does not throw an IOException
-    * @post return != null
+    * {@code FirstNames} holds the first names read from {@value FirstNameValueGenerator#FIRST_NAMES_FILE}. The file is only read when this
+    * class is initialized, which happens the first time a {@link FirstNameValueGenerator} is created.
     */
-   private static Set<String> getFirstNames() {
-      try {
-         final URL firstNamesUrl = FirstNameValueGenerator.class.getClassLoader().getResource(FirstNameValueGenerator.FIRST_NAMES_FILE);
-         final File firstNamesFile = new File(firstNamesUrl.toURI());
-         final Set<String> firstNames = new HashSet<>(Files.readAllLines(firstNamesFile.toPath()));
-         return firstNames;
-      }
-      catch (final IOException | URISyntaxException e) {
-         throw new AssertionError("Could not read the first names file.", e);
+   private static class FirstNames {
+
+      /**
+       * Returns the distinct first names from {@value FirstNameValueGenerator#FIRST_NAMES_FILE}.
+       *
+       * @pre // ResourceUtils.readDistinctLines(..., FIRST_NAMES_FILE) does not throw an IOException
+       * @post !return.isEmpty()
+       */
+      private static List<String> readFirstNames() {
+         try {
+            final ClassLoader classLoader = FirstNameValueGenerator.class.getClassLoader();
+            return ResourceUtils.readDistinctLines(classLoader, FirstNameValueGenerator.FIRST_NAMES_FILE);
+         }
+         catch (final IOException e) {
+            throw new AssertionError("Could not read the first names file.", e);
+         }
       }
-   }
 
-   /**
-    * Creates a new {@code FirstNameValueGenerator}. This constructor is only for internal use.
-    *
-    * @pre valueType != null
-    * @pre !values.isEmpty()
-    * @see SetBasedValueGenerator#SetBasedValueGenerator
-    */
-   private FirstNameValueGenerator(Class<String> valueType, Set<String> values, boolean uniqueSelections) {
-      // Precondition(s) asserted by the call to "this(...)".
-      super(valueType, values, uniqueSelections);
+      /**
+       * The unmodifiable list of distinct first names.
+       *
+       * @invariant !VALUES.isEmpty()
+       */
+      private static final List<String> VALUES = FirstNames.readFirstNames();
+
    }
 
 }
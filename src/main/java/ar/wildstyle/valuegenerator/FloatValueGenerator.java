@@ -1,14 +1,16 @@
 package ar.wildstyle.valuegenerator;
 
-import java.math.BigDecimal;
 import java.util.Random;
+import java.util.SplittableRandom;
+
+import ar.wildstyle.util.RandomUtils;
 
 /**
  * {@code FloatValueGenerator} is an implementation of {@link ValueGenerator} that generates {@link Float} values.
  *
  * @author Adam Rosini
  */
-public class FloatValueGenerator implements ValueGenerator<Float> {
+public class FloatValueGenerator implements ValueGenerator.OfFloat {
 
    /**
     * The default minimum value of an {@link Float} {@linkplain #generateValue generated} by instances of this class.
@@ -71,10 +73,24 @@ public class FloatValueGenerator implements ValueGenerator<Float> {
       assert nullChance >= 0 : "The 'nullChance' parameter must be greater than or equal to 0.";
       assert nullChance <= 100 : "The 'nullChance' parameter must be less than or equal to 100.";
 
-      this.min = BigDecimal.valueOf(min);
-      this.max = BigDecimal.valueOf(max);
+      this.min = min;
+      this.max = max;
       this.nullChance = nullChance;
-      this.random = new Random();
+      this.random = null;
+   }
+
+   /**
+    * Creates a new {@code FloatValueGenerator} with the same configuration as the given {@code FloatValueGenerator}, which uses the given
+    * random instance. This constructor is only for internal use.
+    *
+    * @pre floatValueGenerator != null
+    * @pre random != null
+    */
+   private FloatValueGenerator(FloatValueGenerator floatValueGenerator, Random random) {
+      this.min = floatValueGenerator.min;
+      this.max = floatValueGenerator.max;
+      this.nullChance = floatValueGenerator.nullChance;
+      this.random = random;
    }
 
    /**
@@ -82,14 +98,35 @@ public class FloatValueGenerator implements ValueGenerator<Float> {
     */
    @Override
    public Float generateValue() {
-      if (this.random.nextInt(100) < this.nullChance) {
+      final Random random = RandomUtils.current(this.random);
+
+      if (random.nextInt(100) < this.nullChance) {
          return null;
       }
 
-      final BigDecimal range = this.max.subtract(this.min);
-      final BigDecimal randomValueInRange = BigDecimal.valueOf(this.random.nextFloat()).multiply(range);
+      return this.generateFloat(random);
+   }
 
-      return randomValueInRange.add(this.min).floatValue();
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public float generateFloat() {
+      return this.generateFloat(RandomUtils.current(this.random));
+   }
+
+   /**
+    * Generates and returns a {@code float} value using the given random instance, without the chance of generating a {@code null} value.
+    *
+    * @pre random != null
+    */
+   private float generateFloat(Random random) {
+      // Interpolate between the bounds in double precision, which cannot overflow for float bounds.
+      final double u = random.nextDouble();
+      final float value = (float)((1 - u) * this.min + u * this.max);
+
+      // Rounding may place the value just outside of the bounds.
+      return Math.min(Math.max(value, this.min), this.max);
    }
 
    /**
@@ -100,19 +137,39 @@ public class FloatValueGenerator implements ValueGenerator<Float> {
       return Float.class;
    }
 
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      int characteristics = ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC | ValueGenerator.PRIMITIVE;
+
+      characteristics |= ValueGenerator.nullChanceCharacteristics(this.nullChance);
+
+      return characteristics;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public FloatValueGenerator split(SplittableRandom random) {
+      return new FloatValueGenerator(this, new Random(random.nextLong()));
+   }
+
    /**
     * The minimum possible value (inclusive) of a {@link Float} {@linkplain #generateValue generated} by this value generator.
     *
-    * @invariant min.compareTo(max) <= 0
+    * @invariant min <= max
     */
-   private final BigDecimal min;
+   private final float min;
 
    /**
     * The maximum possible value (inclusive) of a {@link Float} {@linkplain #generateValue generated} by this value generator.
     *
-    * @invariant max.compareTo(min) >= 0
+    * @invariant max >= min
     */
-   private final BigDecimal max;
+   private final float max;
 
    /**
     * The percent chance that a {@code null} value is {@linkplain #generateValue generated} by this value generator.
@@ -123,9 +180,8 @@ public class FloatValueGenerator implements ValueGenerator<Float> {
    private final double nullChance;
 
    /**
-    * The random instance associated with this value generator.
-    *
-    * @invariant random != null
+    * The random instance associated with this value generator if it was {@linkplain #split split}, or {@code null} if the current thread's
+    * random instance is used.
     */
    private final Random random;
 
@@ -1,16 +1,16 @@
 package ar.wildstyle.valuegenerator;
 
-import java.io.File;
 import java.io.IOException;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.file.Files;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+
+import ar.wildstyle.util.ResourceUtils;
 
 /**
- * {@code LastNameValueGenerator} is an implementation of {@link ValueGenerator} which generates {@link String} values which represent last
- * names.
+ * {@code LastNameValueGenerator} is an implementation of {@link ValueGenerator} which generates {@link String} values which represent
+ * last names.
+ * <p>
+ * The last names are read from {@value #LAST_NAMES_FILE} the first time a {@code LastNameValueGenerator} is created, and are shared by
+ * all {@code LastNameValueGenerator} instances.
  */
 public class LastNameValueGenerator extends SetBasedValueGenerator<String> {
 
@@ -20,42 +20,43 @@ public class LastNameValueGenerator extends SetBasedValueGenerator<String> {
    public static final String LAST_NAMES_FILE = "last-names.txt";
 
    /**
-    * Creates a new {@code LastNameValueGenerator}. If {@code uniqueSelections} is true, all last names will be generated an equal number of
-    * times before any last name is generated again. For example, all last names will be generated once, then all last names will be
+    * Creates a new {@code LastNameValueGenerator}. If {@code uniqueSelections} is true, all last names will be generated an equal number
+    * of times before any last name is generated again. For example, all last names will be generated once, then all last names will be
     * generated twice, and so on. If {@code uniqueSelections} is false, any last name may be generated at any time.
     */
    public LastNameValueGenerator(boolean uniqueSelections) {
-      this(String.class, LastNameValueGenerator.getLastNames(), uniqueSelections);
+      super(String.class, LastNames.VALUES, uniqueSelections, true);
    }
 
    /**
-    * Returns the set of last names from {@value #LAST_NAMES_FILE}.
-    *
-    * @pre // Files.readAllLines(new File(LAST_NAMES_FILE).toPath()) does not throw an IOException
-    * @post return != null
+    * {@code LastNames} holds the last names read from {@value LastNameValueGenerator#LAST_NAMES_FILE}. The file is only read when this
+    * class is initialized, which happens the first time a {@link LastNameValueGenerator} is created.
     */
-   private static Set<String> getLastNames() {
-      try {
-         final URL lastNamesUrl = LastNameValueGenerator.class.getClassLoader().getResource(LastNameValueGenerator.LAST_NAMES_FILE);
-         final File lastNamesFile = new File(lastNamesUrl.toURI());
-         final Set<String> lastNames = new HashSet<>(Files.readAllLines(lastNamesFile.toPath()));
-         return lastNames;
-      }
-      catch (final IOException | URISyntaxException e) {
-         throw new AssertionError("Could not read the last names file.", e);
+   private static class LastNames {
+
+      /**
+       * Returns the distinct last names from {@value LastNameValueGenerator#LAST_NAMES_FILE}.
+       *
+       * @pre // ResourceUtils.readDistinctLines(..., LAST_NAMES_FILE) does not throw an IOException
+       * @post !return.isEmpty()
+       */
+      private static List<String> readLastNames() {
+         try {
+            final ClassLoader classLoader = LastNameValueGenerator.class.getClassLoader();
+            return ResourceUtils.readDistinctLines(classLoader, LastNameValueGenerator.LAST_NAMES_FILE);
+         }
+         catch (final IOException e) {
+            throw new AssertionError("Could not read the last names file.", e);
+         }
       }
-   }
 
-   /**
-    * Creates a new {@code LastNameValueGenerator}. This constructor is only for internal use.
-    *
-    * @pre valueType != null
-    * @pre !values.isEmpty()
-    * @see SetBasedValueGenerator#SetBasedValueGenerator
-    */
-   private LastNameValueGenerator(Class<String> valueType, Set<String> values, boolean uniqueSelections) {
-      // Precondition(s) asserted by the call to "this(...)".
-      super(valueType, values, uniqueSelections);
+      /**
+       * The unmodifiable list of distinct last names.
+       *
+       * @invariant !VALUES.isEmpty()
+       */
+      private static final List<String> VALUES = LastNames.readLastNames();
+
    }
 
 }
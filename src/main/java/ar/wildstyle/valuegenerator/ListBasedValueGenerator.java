@@ -1,17 +1,20 @@
 package ar.wildstyle.valuegenerator;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * {@code ListBasedValueGenerator} generates objects of type {@code T} by selecting them from a predefined list in order.
+ * {@code ListBasedValueGenerator} generates objects of type {@code T} by selecting them from a predefined list in order. The order is
+ * shared by all threads using a list based value generator: each thread atomically claims the next position in the list, so every value
+ * is generated exactly once per pass through the list without locking.
  */
 public class ListBasedValueGenerator<T> implements ValueGenerator<T> {
 
    /**
     * Creates a new {@code ListBasedValueGenerator} that will generate values from the given {@code values} in order. If
     * {@code repeatSelections} is true, {@code values} will be repeated every time the end of {@code values} is reached. Otherwise, null
-    * values will be generated once all values in {@code values} have been generated once.
+    * values will be generated once all values in {@code values} have been generated once. The given list is copied, so later changes to
+    * it have no effect.
     *
     * @pre valueType != null
     * @pre !values.isEmpty()
@@ -21,9 +24,10 @@ public class ListBasedValueGenerator<T> implements ValueGenerator<T> {
       assert !values.isEmpty();
 
       this.valueType = valueType;
-      this.values = new ArrayList<>(values);
+      this.values = values.toArray();
       this.repeatSelections = repeatSelections;
-      this.usedValues = new ArrayList<>();
+      this.containsNull = values.contains(null);
+      this.cursor = new AtomicLong();
    }
 
    /**
@@ -31,17 +35,19 @@ public class ListBasedValueGenerator<T> implements ValueGenerator<T> {
     */
    @Override
    public T generateValue() {
-      if (this.values.isEmpty()) {
-         if (!this.repeatSelections) {
-            return null;
-         }
-
-         this.values.addAll(this.usedValues);
+      // Once all values have been generated, stop advancing the cursor so that it can never overflow.
+      if (!this.repeatSelections && this.cursor.get() >= this.values.length) {
+         return null;
       }
 
-      final T value = this.values.remove(0);
-      this.usedValues.add(value);
+      final long position = this.cursor.getAndIncrement();
+      if (!this.repeatSelections && position >= this.values.length) {
+         return null;
+      }
 
+      // The values array only contains elements of the list this value generator was created with.
+      @SuppressWarnings("unchecked")
+      final T value = (T)this.values[(int)(position % this.values.length)];
       return value;
    }
 
@@ -53,6 +59,16 @@ public class ListBasedValueGenerator<T> implements ValueGenerator<T> {
       return this.valueType;
    }
 
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      // Values are generated in order, so they always depend on the values generated before. Null values are generated once all values
+      // have been generated, unless values are repeated.
+      return this.repeatSelections && !this.containsNull ? ValueGenerator.CONCURRENT : ValueGenerator.CONCURRENT | ValueGenerator.NULLABLE;
+   }
+
    /**
     * The type of value generated by this object generator.
     *
@@ -61,11 +77,11 @@ public class ListBasedValueGenerator<T> implements ValueGenerator<T> {
    private final Class<T> valueType;
 
    /**
-    * The list of values associated with this object generator.
+    * The values associated with this object generator, in the order they are generated. The array is never modified.
     *
-    * @invariant !values.isEmpty();
+    * @invariant values.length > 0
     */
-   private final List<T> values;
+   private final Object[] values;
 
    /**
     * Indicates if values in {@code values} will be returned more than once.
@@ -73,10 +89,16 @@ public class ListBasedValueGenerator<T> implements ValueGenerator<T> {
    private final boolean repeatSelections;
 
    /**
-    * The list of used values associated with this object generator.
+    * Indicates if {@code values} contains {@code null}.
+    */
+   private final boolean containsNull;
+
+   /**
+    * The number of values which have been generated by this object generator. The next value generated is at index
+    * {@code cursor % values.length} of {@code values}.
     *
-    * @invariant usedValues != null
+    * @invariant cursor.get() >= 0
     */
-   private final List<T> usedValues;
+   private final AtomicLong cursor;
 
 }
@@ -1,14 +1,17 @@
 package ar.wildstyle.valuegenerator;
 
-import java.math.BigInteger;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+import ar.wildstyle.util.RandomUtils;
 
 /**
  * {@code LongValueGenerator} is an implementation of {@link ValueGenerator} that generates {@link Long} values.
  *
  * @author Adam Rosini
  */
-public class LongValueGenerator implements ValueGenerator<Long> {
+public class LongValueGenerator implements ValueGenerator.OfLong {
 
    /**
     * The default minimum value of an {@link Long} {@linkplain #generateValue generated} by instances of this class.
@@ -67,14 +70,49 @@ public class LongValueGenerator implements ValueGenerator<Long> {
     * @pre nullChance <= 100
     */
    public LongValueGenerator(long min, long max, double nullChance) {
+      // Precondition(s) asserted by the call to "this(...)".
+      this(min, max, nullChance, false);
+   }
+
+   /**
+    * Creates a new {@code LongValueGenerator} that will {@linkplain #generateValue generate} {@link Long} instances with a value
+    * between the given {@code min} and the given {@code max} (inclusive) with a {@code nullChance} percent chance of being null. If
+    * {@code uniqueSelections} is true, every value in the range will be generated once before any value is generated again, in an order
+    * which is shuffled again each time. If {@code uniqueSelections} is false, any value in the range may be generated at any time.
+    * <p>
+    * Unique selections are made using a {@linkplain RangePermutation keyed permutation} of the range rather than a record of the values
+    * already generated, so they use the same small amount of memory regardless of the size of the range.
+    *
+    * @pre min <= max
+    * @pre nullChance >= 0
+    * @pre nullChance <= 100
+    */
+   public LongValueGenerator(long min, long max, double nullChance, boolean uniqueSelections) {
       assert min <= max : "The 'min' parameter must be less than or equal to the 'max' parameter.";
       assert nullChance >= 0 : "The 'nullChance' parameter must be greater than or equal to 0.";
       assert nullChance <= 100 : "The 'nullChance' parameter must be less than or equal to 100.";
 
-      this.min = BigInteger.valueOf(min);
-      this.max = BigInteger.valueOf(max);
+      this.min = min;
+      this.max = max;
       this.nullChance = nullChance;
-      this.random = new Random();
+      // The size of the range wraps around to 0 for the widest range, which is how the permutation represents 2^64 values.
+      this.permutation = uniqueSelections ? new RangePermutation(max - min + 1, ThreadLocalRandom.current().nextLong()) : null;
+      this.random = null;
+   }
+
+   /**
+    * Creates a new {@code LongValueGenerator} with the same configuration as the given {@code LongValueGenerator}, which uses the given
+    * random instance. This constructor is only for internal use, and only applies to value generators that do not have unique selections.
+    *
+    * @pre longValueGenerator.permutation == null
+    * @pre random != null
+    */
+   private LongValueGenerator(LongValueGenerator longValueGenerator, Random random) {
+      this.min = longValueGenerator.min;
+      this.max = longValueGenerator.max;
+      this.nullChance = longValueGenerator.nullChance;
+      this.permutation = null;
+      this.random = random;
    }
 
    /**
@@ -82,18 +120,34 @@ public class LongValueGenerator implements ValueGenerator<Long> {
     */
    @Override
    public Long generateValue() {
-      if (this.random.nextInt(100) < this.nullChance) {
+      final Random random = RandomUtils.current(this.random);
+
+      if (random.nextInt(100) < this.nullChance) {
          return null;
       }
 
-      final BigInteger range = this.max.subtract(this.min);
+      return this.generateLong(random);
+   }
 
-      BigInteger randomValueInRange;
-      do {
-         randomValueInRange = new BigInteger(range.bitLength(), this.random);
-      } while (randomValueInRange.compareTo(range) > 0);
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long generateLong() {
+      return this.generateLong(RandomUtils.current(this.random));
+   }
 
-      return randomValueInRange.add(this.min).longValue();
+   /**
+    * Generates and returns a {@code long} value using the given random instance, without the chance of generating a {@code null} value.
+    *
+    * @pre random != null
+    */
+   private long generateLong(Random random) {
+      if (this.permutation != null) {
+         return this.min + this.permutation.nextIndex();
+      }
+
+      return RandomUtils.nextLong(random, this.min, this.max);
    }
 
    /**
@@ -104,19 +158,46 @@ public class LongValueGenerator implements ValueGenerator<Long> {
       return Long.class;
    }
 
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      int characteristics = ValueGenerator.CONCURRENT | ValueGenerator.PRIMITIVE;
+
+      // Unique selections depend on the values generated before, and are shared by split value generators.
+      if (this.permutation == null) {
+         characteristics |= ValueGenerator.STATELESS | ValueGenerator.DETERMINISTIC;
+      }
+
+      characteristics |= ValueGenerator.nullChanceCharacteristics(this.nullChance);
+
+      return characteristics;
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * Long value generators with unique selections return themselves, so that values remain unique across all split value generators.
+    */
+   @Override
+   public LongValueGenerator split(SplittableRandom random) {
+      return this.permutation != null ? this : new LongValueGenerator(this, new Random(random.nextLong()));
+   }
+
    /**
     * The minimum possible value (inclusive) of a {@link Long} {@linkplain #generateValue generated} by this value generator.
     *
-    * @invariant min.compareTo(max) <= 0
+    * @invariant min <= max
     */
-   private final BigInteger min;
+   private final long min;
 
    /**
     * The maximum possible value (inclusive) of a {@link Long} {@linkplain #generateValue generated} by this value generator.
     *
-    * @invariant max.compareTo(min) >= 0
+    * @invariant max >= min
     */
-   private final BigInteger max;
+   private final long max;
 
    /**
     * The percent chance that a {@code null} value is {@linkplain #generateValue generated} by this value generator.
@@ -127,9 +208,14 @@ public class LongValueGenerator implements ValueGenerator<Long> {
    private final double nullChance;
 
    /**
-    * The random instance associated with this value generator.
-    *
-    * @invariant random != null
+    * The permutation of the range between {@code min} and {@code max} used to make unique selections, if this value generator has unique
+    * selections, otherwise {@code null}.
+    */
+   private final RangePermutation permutation;
+
+   /**
+    * The random instance associated with this value generator if it was {@linkplain #split split}, or {@code null} if the current thread's
+    * random instance is used.
     */
    private final Random random;
 
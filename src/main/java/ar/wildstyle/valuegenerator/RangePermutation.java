@@ -0,0 +1,135 @@
+package ar.wildstyle.valuegenerator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code RangePermutation} is a keyed, bijective shuffle of the indexes {@code 0} to {@code size - 1}, which is used by numeric value
+ * generators to generate every value in a range once before any value is generated again, without remembering which values have been
+ * generated.
+ * <p>
+ * Indexes are shuffled by a balanced Feistel network over the smallest even number of bits which can represent every index, and indexes
+ * which fall outside the range are shuffled again until they fall inside it ("cycle walking"), so the shuffle is a permutation of the
+ * range. Each pass through the range is shuffled with a different key, so the order of the indexes changes from one pass to the next.
+ * Only a seed and a counter are stored, regardless of the size of the range.
+ *
+ * @author Adam Rosini
+ */
+final class RangePermutation {
+
+   /**
+    * Creates a new {@code RangePermutation} of the indexes {@code 0} to {@code size - 1} (inclusive), shuffled using the given seed. The
+    * size is treated as an unsigned value, where a size of {@code 0} represents the 2<sup>64</sup> possible {@code long} values.
+    */
+   RangePermutation(long size, long seed) {
+      this.size = size;
+      this.seed = seed;
+
+      int bits = size == 0 ? Long.SIZE : Long.SIZE - Long.numberOfLeadingZeros(size - 1);
+      bits = Math.max(2, bits + (bits & 1));
+
+      this.halfBits = bits / 2;
+      this.halfMask = -1L >>> (Long.SIZE - this.halfBits);
+      this.position = new AtomicLong();
+   }
+
+   /**
+    * Returns the next index in this permutation. All indexes are returned once before any index is returned again. This method may be
+    * called from several threads at once.
+    *
+    * @post Long.compareUnsigned(return, this.size) < 0 || this.size == 0
+    */
+   long nextIndex() {
+      return this.indexAt(this.position.getAndIncrement());
+   }
+
+   /**
+    * Returns the index at the given position in this permutation. The position is treated as an unsigned value; each consecutive run of
+    * {@code size} positions contains every index exactly once.
+    *
+    * @post Long.compareUnsigned(return, this.size) < 0 || this.size == 0
+    */
+   long indexAt(long position) {
+      // Every long is in a range of 2^64 indexes, so there is never a second pass and no index needs to be shuffled again.
+      if (this.size == 0) {
+         return this.shuffle(position, this.seed);
+      }
+
+      final long pass = Long.divideUnsigned(position, this.size);
+      final long passKey = RangePermutation.mix(this.seed + pass * RangePermutation.GOLDEN_GAMMA);
+
+      long index = Long.remainderUnsigned(position, this.size);
+      do {
+         index = this.shuffle(index, passKey);
+      }
+      while (Long.compareUnsigned(index, this.size) >= 0);
+
+      return index;
+   }
+
+   /**
+    * Shuffles the given index using a Feistel network keyed by the given key. The result uses the same number of bits as the index.
+    */
+   private long shuffle(long index, long key) {
+      long left = index >>> this.halfBits;
+      long right = index & this.halfMask;
+
+      for (int round = 0; round < RangePermutation.ROUNDS; round++) {
+         final long roundKey = key + (round + 1) * RangePermutation.GOLDEN_GAMMA;
+         final long nextRight = left ^ (RangePermutation.mix(right ^ roundKey) & this.halfMask);
+         left = right;
+         right = nextRight;
+      }
+
+      return (left << this.halfBits) | right;
+   }
+
+   /**
+    * Returns a well mixed value of the given value, using the finalizer of the SplitMix64 random number generator.
+    */
+   private static long mix(long value) {
+      value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+      value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+      return value ^ (value >>> 31);
+   }
+
+   /**
+    * The number of rounds in the Feistel network.
+    */
+   private static final int ROUNDS = 6;
+
+   /**
+    * The odd constant used to derive distinct keys from a seed.
+    */
+   private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+   /**
+    * The number of indexes in this permutation, treated as an unsigned value, where {@code 0} represents 2<sup>64</sup> indexes.
+    */
+   private final long size;
+
+   /**
+    * The seed used to derive the key of each pass through this permutation.
+    */
+   private final long seed;
+
+   /**
+    * The number of bits in each half of a shuffled index.
+    *
+    * @invariant halfBits >= 1
+    * @invariant halfBits <= 32
+    */
+   private final int halfBits;
+
+   /**
+    * The mask selecting the lowest {@link #halfBits} bits of an index.
+    */
+   private final long halfMask;
+
+   /**
+    * The position of the next index returned by {@link #nextIndex}.
+    *
+    * @invariant position != null
+    */
+   private final AtomicLong position;
+
+}
@@ -2,11 +2,17 @@ package ar.wildstyle.valuegenerator;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
 
+import ar.wildstyle.util.RandomUtils;
+
 /**
  * {@code SetBasedValueGenerator} generates objects of type {@code T} by selecting them from a predefined set, with no order guarantees.
  */
@@ -17,19 +23,81 @@ public class SetBasedValueGenerator<T> implements ValueGenerator<T> {
     * {@code uniqueSelections} is true, all values in {@code values} will be generated an equal number of times before any value is
     * generated again. For example, all values will be generated once, then all values will be generated twice, and so on. If
     * {@code uniqueSelections} is false, any value in {@code values} may be generated at any time.
+    * <p>
+    * Unique selections are made using a {@linkplain RangePermutation keyed permutation} of the positions of the values, which is shuffled
+    * again for each round. The next position is claimed with an atomic counter rather than a lock, so threads sharing this value generator
+    * do not wait for each other.
+    * <p>
+    * Values are selected by their position in the iteration order of {@code values}, so the same seed only selects the same values if that
+    * order is the same every time. This is the case for {@linkplain SortedSet sorted sets}, {@linkplain LinkedHashSet linked hash sets},
+    * {@linkplain EnumSet enum sets} and sets with a single value, but not for hash based sets in general.
     *
     * @pre valueType != null
     * @pre !values.isEmpty()
     */
    public SetBasedValueGenerator(Class<T> valueType, Set<T> values, boolean uniqueSelections) {
+      // Precondition(s) asserted by the call to "SetBasedValueGenerator.toDistinctValues(...)".
+      this(valueType, SetBasedValueGenerator.toDistinctValues(valueType, values), uniqueSelections,
+         values instanceof SortedSet || values instanceof LinkedHashSet || values instanceof EnumSet || values.size() == 1);
+   }
+
+   /**
+    * Creates a new {@code SetBasedValueGenerator} that will generate values from the given list of distinct values, as described by
+    * {@link #SetBasedValueGenerator(Class, Set, boolean)}. The given list is not copied, so it can be shared by many value generators, and
+    * must not be modified afterwards. If {@code fixedOrder} is false, the order of the given list may differ from run to run, so this value
+    * generator is not {@linkplain ValueGenerator#DETERMINISTIC deterministic}. This constructor is only for internal use.
+    *
+    * @pre valueType != null
+    * @pre !values.isEmpty()
+    * @pre values.stream().distinct().count() == values.size()
+    */
+   SetBasedValueGenerator(Class<T> valueType, List<T> values, boolean uniqueSelections, boolean fixedOrder) {
       assert valueType != null : "The 'valueType' parameter cannot be null.";
       assert values != null : "The 'values' parameter cannot be null.";
       assert !values.isEmpty() : "The 'values' parameter cannot be empty.";
 
       this.valueType = valueType;
-      this.values = new ArrayList<>(values);
+      this.values = values;
       this.uniqueSelections = uniqueSelections;
-      this.usedValues = new HashSet<>();
+      this.fixedOrder = fixedOrder;
+      this.containsNull = values.contains(null);
+      this.permutation = uniqueSelections ? new RangePermutation(values.size(), ThreadLocalRandom.current().nextLong()) : null;
+      this.random = null;
+   }
+
+   /**
+    * Creates a new {@code SetBasedValueGenerator} which generates values from the same values as the given {@code SetBasedValueGenerator},
+    * which uses the given random instance. This constructor is only for internal use, and only applies to set based value generators that
+    * do not have unique selections, since their values are never modified.
+    *
+    * @pre !setBasedValueGenerator.uniqueSelections
+    * @pre random != null
+    */
+   private SetBasedValueGenerator(SetBasedValueGenerator<T> setBasedValueGenerator, Random random) {
+      assert !setBasedValueGenerator.uniqueSelections;
+
+      this.valueType = setBasedValueGenerator.valueType;
+      this.values = setBasedValueGenerator.values;
+      this.uniqueSelections = false;
+      this.fixedOrder = setBasedValueGenerator.fixedOrder;
+      this.containsNull = setBasedValueGenerator.containsNull;
+      this.permutation = null;
+      this.random = random;
+   }
+
+   /**
+    * Returns an unmodifiable list containing the given values of the given value type.
+    *
+    * @pre valueType != null
+    * @pre !values.isEmpty()
+    * @post return.size() == values.size()
+    */
+   private static <T> List<T> toDistinctValues(Class<T> valueType, Set<T> values) {
+      assert valueType != null : "The 'valueType' parameter cannot be null.";
+      assert values != null : "The 'values' parameter cannot be null.";
+      assert !values.isEmpty() : "The 'values' parameter cannot be empty.";
+
+      return Collections.unmodifiableList(new ArrayList<>(values));
    }
 
    /**
@@ -37,27 +105,57 @@ public class SetBasedValueGenerator<T> implements ValueGenerator<T> {
     */
    @Override
    public T generateValue() {
+      if (this.permutation != null) {
+         return this.values.get((int)this.permutation.nextIndex());
+      }
+
+      return this.values.get(RandomUtils.current(this.random).nextInt(this.values.size()));
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public Class<T> getValueType() {
+      return this.valueType;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      int characteristics = ValueGenerator.CONCURRENT;
+
+      // Unique selections depend on the values generated before, and are shared by split value generators.
       if (!this.uniqueSelections) {
-         return this.values.get(ThreadLocalRandom.current().nextInt(this.values.size()));
+         characteristics |= ValueGenerator.STATELESS;
+
+         // Values are selected by position, so the same seed only selects the same values if the order of the values is fixed.
+         if (this.fixedOrder) {
+            characteristics |= ValueGenerator.DETERMINISTIC;
+         }
       }
 
-      if (this.values.isEmpty()) {
-         this.values.addAll(this.usedValues);
-         Collections.shuffle(this.values);
+      if (this.containsNull) {
+         characteristics |= ValueGenerator.NULLABLE;
       }
 
-      final T value = this.values.remove(0);
-      this.usedValues.add(value);
+      if (this.values.size() == 1) {
+         characteristics |= ValueGenerator.CONSTANT;
+      }
 
-      return value;
+      return characteristics;
    }
 
    /**
     * {@inheritDoc}
+    * <p>
+    * Set based value generators with unique selections return themselves, so that values remain unique across all split value generators.
     */
    @Override
-   public Class<T> getValueType() {
-      return this.valueType;
+   public SetBasedValueGenerator<T> split(SplittableRandom random) {
+      return this.uniqueSelections ? this : new SetBasedValueGenerator<T>(this, new Random(random.nextLong()));
    }
 
    /**
@@ -68,7 +166,8 @@ public class SetBasedValueGenerator<T> implements ValueGenerator<T> {
    private final Class<T> valueType;
 
    /**
-    * The list of values associated with this object generator.
+    * The list of distinct values associated with this object generator, which may be shared with other value generators and is never
+    * modified.
     *
     * @invariant !values.isEmpty();
     */
@@ -80,10 +179,27 @@ public class SetBasedValueGenerator<T> implements ValueGenerator<T> {
    private final boolean uniqueSelections;
 
    /**
-    * The list of used values associated with this object generator.
+    * Indicates if the order of {@code values} is the same every time, rather than depending on hash codes which may differ from run to run.
+    */
+   private final boolean fixedOrder;
+
+   /**
+    * Indicates if {@code values} contains {@code null}.
+    */
+   private final boolean containsNull;
+
+   /**
+    * The permutation of the indexes of {@code values} used to make unique selections, if this value generator has unique selections,
+    * otherwise {@code null}.
     *
-    * @invariant usedValues != null
+    * @invariant uniqueSelections == (permutation != null)
+    */
+   private final RangePermutation permutation;
+
+   /**
+    * The random instance associated with this value generator if it was {@linkplain #split split}, or {@code null} if the current thread's
+    * random instance is used.
     */
-   private final Set<T> usedValues;
+   private final Random random;
 
 }
@@ -1,14 +1,16 @@
 package ar.wildstyle.valuegenerator;
 
-import java.math.BigInteger;
 import java.util.Random;
+import java.util.SplittableRandom;
+
+import ar.wildstyle.util.RandomUtils;
 
 /**
  * {@code ShortValueGenerator} is an implementation of {@link ValueGenerator} that generates {@link Short} values.
  *
  * @author Adam Rosini
  */
-public class ShortValueGenerator implements ValueGenerator<Short> {
+public class ShortValueGenerator implements ValueGenerator.OfShort {
 
    /**
     * The default minimum value of an {@link Short} {@linkplain #generateValue generated} by instances of this class.
@@ -71,10 +73,24 @@ public class ShortValueGenerator implements ValueGenerator<Short> {
       assert nullChance >= 0 : "The 'nullChance' parameter must be greater than or equal to 0.";
       assert nullChance <= 100 : "The 'nullChance' parameter must be less than or equal to 100.";
 
-      this.min = BigInteger.valueOf(min);
-      this.max = BigInteger.valueOf(max);
+      this.min = min;
+      this.max = max;
       this.nullChance = nullChance;
-      this.random = new Random();
+      this.random = null;
+   }
+
+   /**
+    * Creates a new {@code ShortValueGenerator} with the same configuration as the given {@code ShortValueGenerator}, which uses the given
+    * random instance. This constructor is only for internal use.
+    *
+    * @pre shortValueGenerator != null
+    * @pre random != null
+    */
+   private ShortValueGenerator(ShortValueGenerator shortValueGenerator, Random random) {
+      this.min = shortValueGenerator.min;
+      this.max = shortValueGenerator.max;
+      this.nullChance = shortValueGenerator.nullChance;
+      this.random = random;
    }
 
    /**
@@ -82,18 +98,30 @@ public class ShortValueGenerator implements ValueGenerator<Short> {
     */
    @Override
    public Short generateValue() {
-      if (this.random.nextInt(100) < this.nullChance) {
+      final Random random = RandomUtils.current(this.random);
+
+      if (random.nextInt(100) < this.nullChance) {
          return null;
       }
 
-      final BigInteger range = this.max.subtract(this.min);
+      return this.generateShort(random);
+   }
 
-      BigInteger randomValueInRange;
-      do {
-         randomValueInRange = new BigInteger(range.bitLength(), this.random);
-      } while (randomValueInRange.compareTo(range) > 0);
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public short generateShort() {
+      return this.generateShort(RandomUtils.current(this.random));
+   }
 
-      return randomValueInRange.add(this.min).shortValue();
+   /**
+    * Generates and returns a {@code short} value using the given random instance, without the chance of generating a {@code null} value.
+    *
+    * @pre random != null
+    */
+   private short generateShort(Random random) {
+      return (short)RandomUtils.nextInt(random, this.min, this.max);
    }
 
    /**
@@ -104,19 +132,39 @@ public class ShortValueGenerator implements ValueGenerator<Short> {
       return Short.class;
    }
 
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      int characteristics = ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC | ValueGenerator.PRIMITIVE;
+
+      characteristics |= ValueGenerator.nullChanceCharacteristics(this.nullChance);
+
+      return characteristics;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public ShortValueGenerator split(SplittableRandom random) {
+      return new ShortValueGenerator(this, new Random(random.nextLong()));
+   }
+
    /**
     * The minimum possible value (inclusive) of a {@link Short} {@linkplain #generateValue generated} by this value generator.
     *
-    * @invariant min.compareTo(max) <= 0
+    * @invariant min <= max
     */
-   private final BigInteger min;
+   private final short min;
 
    /**
     * The maximum possible value (inclusive) of a {@link Short} {@linkplain #generateValue generated} by this value generator.
     *
-    * @invariant max.compareTo(min) >= 0
+    * @invariant max >= min
     */
-   private final BigInteger max;
+   private final short max;
 
    /**
     * The percent chance that a {@code null} value is {@linkplain #generateValue generated} by this value generator.
@@ -127,9 +175,8 @@ public class ShortValueGenerator implements ValueGenerator<Short> {
    private final double nullChance;
 
    /**
-    * The random instance associated with this value generator.
-    *
-    * @invariant random != null
+    * The random instance associated with this value generator if it was {@linkplain #split split}, or {@code null} if the current thread's
+    * random instance is used.
     */
    private final Random random;
 
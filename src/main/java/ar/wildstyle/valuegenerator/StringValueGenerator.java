@@ -3,7 +3,9 @@ package ar.wildstyle.valuegenerator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
+
+import ar.wildstyle.util.RandomUtils;
 
 /**
  * {@code StringValueGenerator} is an implementation of {@link ValueGenerator} that generates {@link String} values.
@@ -135,7 +137,8 @@ public class StringValueGenerator implements ValueGenerator<String> {
    /**
     * Creates a new {@code StringValueGenerator} that will generate {@link String} values with {@linkplain String#length lengths} between
     * {@code minLength} and {@code maxLength} (inclusive) using only characters found in {@code allowableCharacters}, with a
-    * {@code nullChance} percent chance of generating a {@code null} value.
+    * {@code nullChance} percent chance of generating a {@code null} value. The allowable characters are compiled into a
+    * {@linkplain CharacterAlphabet character alphabet} when this value generator is created, so later changes to the list have no effect.
     *
     * @pre minLength >= 0
     * @pre maxLength >= 1
@@ -157,9 +160,24 @@ public class StringValueGenerator implements ValueGenerator<String> {
 
       this.minLength = minLength;
       this.maxLength = maxLength;
-      this.allowableCharacters = allowableCharacters;
+      this.alphabet = new CharacterAlphabet(allowableCharacters);
       this.nullChance = nullChance;
-      this.random = new Random();
+      this.random = null;
+   }
+
+   /**
+    * Creates a new {@code StringValueGenerator} with the same configuration as the given {@code StringValueGenerator}, which uses the given
+    * random instance. This constructor is only for internal use.
+    *
+    * @pre stringValueGenerator != null
+    * @pre random != null
+    */
+   private StringValueGenerator(StringValueGenerator stringValueGenerator, Random random) {
+      this.minLength = stringValueGenerator.minLength;
+      this.maxLength = stringValueGenerator.maxLength;
+      this.alphabet = stringValueGenerator.alphabet;
+      this.nullChance = stringValueGenerator.nullChance;
+      this.random = random;
    }
 
    /**
@@ -167,20 +185,14 @@ public class StringValueGenerator implements ValueGenerator<String> {
     */
    @Override
    public String generateValue() {
-      if (this.random.nextInt(100) < this.nullChance) {
-         return null;
-      }
-
-      final int randomStringLength = ThreadLocalRandom.current().nextInt(this.minLength - 1, this.maxLength) + 1;
-      final int allowableCharactersSize = this.allowableCharacters.size();
+      final Random random = RandomUtils.current(this.random);
 
-      final StringBuilder randomStringBuilder = new StringBuilder(randomStringLength);
-      for (int x = 0; x < randomStringLength; x++) {
-         final int nextCharacterIndex = ThreadLocalRandom.current().nextInt(0, allowableCharactersSize);
-         randomStringBuilder.append(this.allowableCharacters.get(nextCharacterIndex));
+      if (random.nextInt(100) < this.nullChance) {
+         return null;
       }
 
-      return randomStringBuilder.toString();
+      final int randomStringLength = this.minLength + random.nextInt(this.maxLength - this.minLength + 1);
+      return this.alphabet.nextString(random, randomStringLength);
    }
 
    /**
@@ -191,6 +203,26 @@ public class StringValueGenerator implements ValueGenerator<String> {
       return String.class;
    }
 
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int characteristics() {
+      int characteristics = ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC;
+
+      characteristics |= ValueGenerator.nullChanceCharacteristics(this.nullChance);
+
+      return characteristics;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public StringValueGenerator split(SplittableRandom random) {
+      return new StringValueGenerator(this, new Random(random.nextLong()));
+   }
+
    /**
     * The minimum possible {@linkplain String#length length} (inclusive) of a value {@linkplain #generateValue generated} by this value
     * generator.
@@ -210,11 +242,11 @@ public class StringValueGenerator implements ValueGenerator<String> {
    private final int maxLength;
 
    /**
-    * The list of characters that a value {@linkplain #generateValue generated} by this value generator may be comprised of.
+    * The alphabet of characters that a value {@linkplain #generateValue generated} by this value generator may be comprised of.
     *
-    * @invariant allowableCharacters != null
+    * @invariant alphabet != null
     */
-   private final List<Character> allowableCharacters;
+   private final CharacterAlphabet alphabet;
 
    /**
     * The percent chance that a {@code null} value is {@linkplain #generateValue generated} by this value generator.
@@ -225,9 +257,8 @@ public class StringValueGenerator implements ValueGenerator<String> {
    private final double nullChance;
 
    /**
-    * The random instance associated with this value generator.
-    *
-    * @invariant random != null
+    * The random instance associated with this value generator if it was {@linkplain #split split}, or {@code null} if the current thread's
+    * random instance is used.
     */
    private final Random random;
 
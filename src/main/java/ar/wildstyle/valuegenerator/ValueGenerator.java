@@ -1,12 +1,54 @@
 package ar.wildstyle.valuegenerator;
 
+import java.util.SplittableRandom;
+
 /**
  * {@code ValueGenerator} is interface for classes which generate values of the given type.
+ * <p>
+ * Value generators may be shared by any number of threads. The configuration of a value generator does not change after it is created.
+ * Value generators which generate random values use the current thread's {@link java.util.concurrent.ThreadLocalRandom} rather than a
+ * random instance shared by all threads, unless they have been {@linkplain #split split}, in which case they use their own random instance
+ * and are meant to be used by one thread at a time. Value generators with state that must be shared between threads, such as the position
+ * in a list of values, update that state atomically.
  *
  * @author Adam Rosini
  */
 public interface ValueGenerator<T> {
 
+   /**
+    * Characteristic value signifying that a value generator may generate {@code null} values.
+    */
+   public static final int NULLABLE = 0x00000001;
+
+   /**
+    * Characteristic value signifying that every value generated by a value generator is equal to the first value it generates, so the
+    * value can be generated once and reused.
+    */
+   public static final int CONSTANT = 0x00000002;
+
+   /**
+    * Characteristic value signifying that the values generated by a value generator do not depend on the values it has generated before,
+    * other than through its random state.
+    */
+   public static final int STATELESS = 0x00000004;
+
+   /**
+    * Characteristic value signifying that a value generator may be used by several threads at once.
+    */
+   public static final int CONCURRENT = 0x00000008;
+
+   /**
+    * Characteristic value signifying that value generators {@linkplain #split split} from a value generator using splittable randoms with
+    * the same seed generate the same values.
+    */
+   public static final int DETERMINISTIC = 0x00000010;
+
+   /**
+    * Characteristic value signifying that a value generator implements one of the primitive value generator interfaces, such as
+    * {@link OfInt}, for its value type.
+    */
+   public static final int PRIMITIVE = 0x00000020;
+
    /**
     * Generates and returns a value.
     */
@@ -20,17 +62,186 @@ public interface ValueGenerator<T> {
    public abstract Class<T> getValueType();
 
    /**
-    * Returns true if this value generator may generate a null value, false otherwise. If the default implementation for this method is not
-    * applicable to this value generator's implementation, this method must be overridden.
+    * Returns a value generator which generates values in the same way as this value generator, but whose random state is independent of
+    * this value generator's and is derived from the given splittable random. Split value generators can be used on different threads
+    * without sharing random state, for example when generating values in parallel.
+    * <p>
+    * Value generators without random state, or whose state must be shared to be meaningful (such as a value generator which generates each
+    * value only once), may return themselves. The default implementation returns this value generator.
+    *
+    * @pre random != null
+    * @post return.getValueType().equals(this.getValueType())
     */
-   default public boolean canGenerateNull() {
-      try {
-         final double nullChance = (double)this.getClass().getDeclaredField("nullChance").get(this);
-         return nullChance > 0;
-      }
-      catch (final Exception e) {
-         return false;
+   default public ValueGenerator<T> split(SplittableRandom random) {
+      return this;
+   }
+
+   /**
+    * Returns the set of characteristics of this value generator, as a combination of {@link #NULLABLE}, {@link #CONSTANT},
+    * {@link #STATELESS}, {@link #CONCURRENT}, {@link #DETERMINISTIC} and {@link #PRIMITIVE}. The characteristics do not change after a
+    * value generator is created, and are used to choose how values are generated, for example to skip {@code null} checks or to reuse a
+    * constant value. A value generator which reports a characteristic it does not have may generate values incorrectly.
+    * <p>
+    * The default implementation returns {@code 0}, which reports none of the characteristics. Value generators which may generate
+    * {@code null} values must override this method to report {@link #NULLABLE}.
+    */
+   default public int characteristics() {
+      return 0;
+   }
+
+   /**
+    * Returns the characteristics implied by the given null chance, for value generators which generate a {@code null} value with a
+    * {@code nullChance} percent chance: {@link #NULLABLE} if the null chance is greater than 0, together with {@link #CONSTANT} if it is
+    * 100, since the null chance is compared against a random integer below 100 and every generated value is then {@code null}.
+    *
+    * @pre nullChance >= 0
+    * @pre nullChance <= 100
+    */
+   public static int nullChanceCharacteristics(double nullChance) {
+      assert nullChance >= 0 : "The 'nullChance' parameter must be greater than or equal to 0.";
+      assert nullChance <= 100 : "The 'nullChance' parameter must be less than or equal to 100.";
+
+      if (nullChance >= 100) {
+         return ValueGenerator.NULLABLE | ValueGenerator.CONSTANT;
       }
+
+      return nullChance > 0 ? ValueGenerator.NULLABLE : 0;
+   }
+
+   /**
+    * Returns true if this value generator's {@linkplain #characteristics characteristics} contain all of the given characteristics, false
+    * otherwise.
+    */
+   default public boolean hasCharacteristics(int characteristics) {
+      return (this.characteristics() & characteristics) == characteristics;
+   }
+
+   /**
+    * Returns true if this value generator may generate a null value, false otherwise. This is equivalent to
+    * {@code hasCharacteristics(NULLABLE)}.
+    */
+   default public boolean canGenerateNull() {
+      return this.hasCharacteristics(ValueGenerator.NULLABLE);
+   }
+
+   /**
+    * {@code OfBoolean} is a value generator which can also generate primitive {@code boolean} values, without boxing them.
+    */
+   public interface OfBoolean extends ValueGenerator<Boolean> {
+
+      /**
+       * Generates and returns a primitive value in the same way as {@link #generateValue}, except that a {@code null} value is never
+       * generated. This is used when the generated value is assigned to a primitive field, which cannot hold a {@code null} value.
+       *
+       * @pre !canGenerateNull()
+       */
+      public abstract boolean generateBoolean();
+
+   }
+
+   /**
+    * {@code OfByte} is a value generator which can also generate primitive {@code byte} values, without boxing them.
+    */
+   public interface OfByte extends ValueGenerator<Byte> {
+
+      /**
+       * Generates and returns a primitive value in the same way as {@link #generateValue}, except that a {@code null} value is never
+       * generated. This is used when the generated value is assigned to a primitive field, which cannot hold a {@code null} value.
+       *
+       * @pre !canGenerateNull()
+       */
+      public abstract byte generateByte();
+
+   }
+
+   /**
+    * {@code OfChar} is a value generator which can also generate primitive {@code char} values, without boxing them.
+    */
+   public interface OfChar extends ValueGenerator<Character> {
+
+      /**
+       * Generates and returns a primitive value in the same way as {@link #generateValue}, except that a {@code null} value is never
+       * generated. This is used when the generated value is assigned to a primitive field, which cannot hold a {@code null} value.
+       *
+       * @pre !canGenerateNull()
+       */
+      public abstract char generateChar();
+
+   }
+
+   /**
+    * {@code OfDouble} is a value generator which can also generate primitive {@code double} values, without boxing them.
+    */
+   public interface OfDouble extends ValueGenerator<Double> {
+
+      /**
+       * Generates and returns a primitive value in the same way as {@link #generateValue}, except that a {@code null} value is never
+       * generated. This is used when the generated value is assigned to a primitive field, which cannot hold a {@code null} value.
+       *
+       * @pre !canGenerateNull()
+       */
+      public abstract double generateDouble();
+
+   }
+
+   /**
+    * {@code OfFloat} is a value generator which can also generate primitive {@code float} values, without boxing them.
+    */
+   public interface OfFloat extends ValueGenerator<Float> {
+
+      /**
+       * Generates and returns a primitive value in the same way as {@link #generateValue}, except that a {@code null} value is never
+       * generated. This is used when the generated value is assigned to a primitive field, which cannot hold a {@code null} value.
+       *
+       * @pre !canGenerateNull()
+       */
+      public abstract float generateFloat();
+
+   }
+
+   /**
+    * {@code OfInt} is a value generator which can also generate primitive {@code int} values, without boxing them.
+    */
+   public interface OfInt extends ValueGenerator<Integer> {
+
+      /**
+       * Generates and returns a primitive value in the same way as {@link #generateValue}, except that a {@code null} value is never
+       * generated. This is used when the generated value is assigned to a primitive field, which cannot hold a {@code null} value.
+       *
+       * @pre !canGenerateNull()
+       */
+      public abstract int generateInt();
+
+   }
+
+   /**
+    * {@code OfLong} is a value generator which can also generate primitive {@code long} values, without boxing them.
+    */
+   public interface OfLong extends ValueGenerator<Long> {
+
+      /**
+       * Generates and returns a primitive value in the same way as {@link #generateValue}, except that a {@code null} value is never
+       * generated. This is used when the generated value is assigned to a primitive field, which cannot hold a {@code null} value.
+       *
+       * @pre !canGenerateNull()
+       */
+      public abstract long generateLong();
+
+   }
+
+   /**
+    * {@code OfShort} is a value generator which can also generate primitive {@code short} values, without boxing them.
+    */
+   public interface OfShort extends ValueGenerator<Short> {
+
+      /**
+       * Generates and returns a primitive value in the same way as {@link #generateValue}, except that a {@code null} value is never
+       * generated. This is used when the generated value is assigned to a primitive field, which cannot hold a {@code null} value.
+       *
+       * @pre !canGenerateNull()
+       */
+      public abstract short generateShort();
+
    }
 
 }
@@ -0,0 +1,78 @@
+package ar.wildstyle;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ar.wildstyle.test.BaseTest;
+import ar.wildstyle.test.ExamplePojo;
+import ar.wildstyle.test.ExamplePojoParent;
+
+/**
+ * {@code DefaultFieldPlanTests} contains tests for the {@link DefaultFieldPlan} class.
+ *
+ * @author Adam Rosini
+ */
+public class DefaultFieldPlanTests extends BaseTest {
+
+   /**
+    * Test for a valid invocation of {@link DefaultFieldPlan#get}.
+    */
+   @Test
+   public void get() throws Exception {
+      final DefaultFieldPlan defaultFieldPlan = DefaultFieldPlan.get(ExamplePojo.class);
+
+      final List<Field> defaultFields = new ArrayList<>();
+      for (final FieldMappingEntry<?> fieldMappingEntry : defaultFieldPlan.getDefaultFieldMappingEntries()) {
+         defaultFields.add(fieldMappingEntry.getField());
+      }
+
+      // Fields declared by the parent come first.
+      Assert.assertEquals(ExamplePojoParent.class.getDeclaredField(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME),
+         defaultFields.get(0));
+      Assert.assertTrue(defaultFields.contains(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_STRING_FIELD_NAME)));
+      Assert.assertTrue(defaultFields.contains(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME)));
+      Assert.assertTrue(defaultFields.contains(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_ENUM_FIELD_NAME)));
+
+      // Static fields are never populated.
+      Assert.assertFalse(defaultFields.contains(ExamplePojo.class.getDeclaredField("EXAMPLE_PRIVATE_STRING_FIELD_NAME")));
+
+      Assert.assertEquals(Collections.singletonList(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_OBJECT_FIELD_NAME)),
+         defaultFieldPlan.getNestedFields());
+   }
+
+   /**
+    * Test for invoking {@link DefaultFieldPlan#get} multiple times with the same type.
+    */
+   @Test
+   public void getCached() {
+      Assert.assertSame(DefaultFieldPlan.get(ExamplePojo.class), DefaultFieldPlan.get(ExamplePojo.class));
+   }
+
+   /**
+    * Test for a valid invocation of {@link DefaultFieldPlan#get} with a JDK type, whose fields are not populated.
+    */
+   @Test
+   public void getJdkType() {
+      final DefaultFieldPlan defaultFieldPlan = DefaultFieldPlan.get(StringBuilder.class);
+
+      Assert.assertTrue(defaultFieldPlan.getDefaultFieldMappingEntries().isEmpty());
+      Assert.assertTrue(defaultFieldPlan.getNestedFields().isEmpty());
+   }
+
+   /**
+    * Test for attempting to invoke {@link DefaultFieldPlan#get} with a null type.
+    */
+   @Test
+   public void getNullType() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'type' parameter cannot be null.");
+
+      DefaultFieldPlan.get(null);
+   }
+
+}
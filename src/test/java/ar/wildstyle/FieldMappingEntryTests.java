@@ -1,6 +1,8 @@
 package ar.wildstyle;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -8,7 +10,15 @@ import org.junit.Test;
 
 import ar.wildstyle.test.BaseTest;
 import ar.wildstyle.test.ExamplePojo;
+import ar.wildstyle.valuegenerator.BooleanValueGenerator;
+import ar.wildstyle.valuegenerator.ByteValueGenerator;
+import ar.wildstyle.valuegenerator.CharacterValueGenerator;
+import ar.wildstyle.valuegenerator.DoubleValueGenerator;
+import ar.wildstyle.valuegenerator.FloatValueGenerator;
 import ar.wildstyle.valuegenerator.IntegerValueGenerator;
+import ar.wildstyle.valuegenerator.LongValueGenerator;
+import ar.wildstyle.valuegenerator.SetBasedValueGenerator;
+import ar.wildstyle.valuegenerator.ShortValueGenerator;
 import ar.wildstyle.valuegenerator.StringValueGenerator;
 import ar.wildstyle.valuegenerator.ValueGenerator;
 
@@ -65,6 +75,144 @@ public class FieldMappingEntryTests extends BaseTest {
       Assert.assertNull(fieldMappingEntry.getOrGenerateValue());
    }
 
+   /**
+    * Test for {@linkplain FieldMappingEntry#setField setting} a field using a {@link FieldMappingEntry} created with a value.
+    */
+   @Test
+   public void setFieldValue() {
+      final ExamplePojo examplePojo = new ExamplePojo();
+      new FieldMappingEntry<String>(this.field, this.value).setField(examplePojo);
+
+      Assert.assertEquals(this.value, examplePojo.getExamplePrivateString());
+   }
+
+   /**
+    * Test for {@linkplain FieldMappingEntry#setField setting} a field using a {@link FieldMappingEntry} created with a value generator.
+    */
+   @Test
+   public void setFieldValueGenerator() {
+      final ExamplePojo examplePojo = new ExamplePojo();
+      new FieldMappingEntry<String>(this.field, new StringValueGenerator(3, 3)).setField(examplePojo);
+
+      Assert.assertEquals(3, examplePojo.getExamplePrivateString().length());
+   }
+
+   /**
+    * Test for {@linkplain FieldMappingEntry#setField setting} a primitive field using a {@link FieldMappingEntry}.
+    */
+   @Test
+   public void setFieldPrimitiveField() throws Exception {
+      final ExamplePojo examplePojo = new ExamplePojo();
+      final Field primitiveIntField = ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME);
+      new FieldMappingEntry<Integer>(primitiveIntField, new IntegerValueGenerator(7, 7)).setField(examplePojo);
+
+      Assert.assertEquals(7, examplePojo.getExamplePrivateInt());
+   }
+
+   /**
+    * Test for {@linkplain FieldMappingEntry#setField setting} a primitive field of every primitive type using a {@link FieldMappingEntry}
+    * with a value generator which generates primitive values.
+    */
+   @Test
+   public void setFieldPrimitiveValueGenerators() throws Exception {
+      final ExamplePojo examplePojo = new ExamplePojo();
+
+      new FieldMappingEntry<Boolean>(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_BOOLEAN_FIELD_NAME),
+         new BooleanValueGenerator(100)).setField(examplePojo);
+      new FieldMappingEntry<Byte>(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_BYTE_FIELD_NAME),
+         new ByteValueGenerator((byte)3, (byte)3)).setField(examplePojo);
+      new FieldMappingEntry<Character>(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_CHAR_FIELD_NAME),
+         new CharacterValueGenerator(Arrays.asList('z'))).setField(examplePojo);
+      new FieldMappingEntry<Double>(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_DOUBLE_FIELD_NAME),
+         new DoubleValueGenerator(1.5, 1.5)).setField(examplePojo);
+      new FieldMappingEntry<Float>(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_FLOAT_FIELD_NAME),
+         new FloatValueGenerator(2.5f, 2.5f)).setField(examplePojo);
+      new FieldMappingEntry<Long>(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_LONG_FIELD_NAME),
+         new LongValueGenerator(4, 4)).setField(examplePojo);
+      new FieldMappingEntry<Short>(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_SHORT_FIELD_NAME),
+         new ShortValueGenerator((short)5, (short)5)).setField(examplePojo);
+
+      Assert.assertTrue(examplePojo.getExamplePrivateBoolean());
+      Assert.assertEquals(3, examplePojo.getExamplePrivateByte());
+      Assert.assertEquals('z', examplePojo.getExamplePrivateChar());
+      Assert.assertEquals(1.5, examplePojo.getExamplePrivateDouble(), 0);
+      Assert.assertEquals(2.5f, examplePojo.getExamplePrivateFloat(), 0);
+      Assert.assertEquals(4, examplePojo.getExamplePrivateLong());
+      Assert.assertEquals(5, examplePojo.getExamplePrivateShort());
+   }
+
+   /**
+    * Test for {@linkplain FieldMappingEntry#setFields setting} a primitive field on an array of objects, some of which are {@code null}.
+    */
+   @Test
+   public void setFieldsPrimitiveField() throws Exception {
+      final ExamplePojo[] examplePojos = new ExamplePojo[] { new ExamplePojo(), null, new ExamplePojo() };
+      final Field primitiveIntField = ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME);
+      new FieldMappingEntry<Integer>(primitiveIntField, new IntegerValueGenerator(7, 7)).setFields(examplePojos);
+
+      Assert.assertEquals(7, examplePojos[0].getExamplePrivateInt());
+      Assert.assertNull(examplePojos[1]);
+      Assert.assertEquals(7, examplePojos[2].getExamplePrivateInt());
+   }
+
+   /**
+    * Test for {@linkplain FieldMappingEntry#setFields setting} a field on an array of objects, some of which are {@code null}.
+    */
+   @Test
+   public void setFields() {
+      final ExamplePojo[] examplePojos = new ExamplePojo[] { new ExamplePojo(), null, new ExamplePojo() };
+      new FieldMappingEntry<String>(this.field, new StringValueGenerator(3, 3)).setFields(examplePojos);
+
+      Assert.assertEquals(3, examplePojos[0].getExamplePrivateString().length());
+      Assert.assertNull(examplePojos[1]);
+      Assert.assertEquals(3, examplePojos[2].getExamplePrivateString().length());
+   }
+
+   /**
+    * Test for invoking {@link FieldMappingEntry#characteristics} with a value generator, a value and a {@code null} value.
+    */
+   @Test
+   public void characteristics() {
+      final int constantCharacteristics =
+         ValueGenerator.CONSTANT | ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC;
+
+      Assert.assertEquals(this.valueGenerator.characteristics(),
+         new FieldMappingEntry<String>(this.field, this.valueGenerator).characteristics());
+      Assert.assertEquals(constantCharacteristics, new FieldMappingEntry<String>(this.field, this.value).characteristics());
+      Assert.assertEquals(constantCharacteristics | ValueGenerator.NULLABLE,
+         new FieldMappingEntry<String>(this.field, (String)null).characteristics());
+   }
+
+   /**
+    * Test for invoking {@link FieldMappingEntry#isConstant} and {@link FieldMappingEntry#toConstant} with a value, a constant value
+    * generator and a value generator that is not constant.
+    */
+   @Test
+   public void toConstant() {
+      final FieldMappingEntry<String> valueFieldMappingEntry = new FieldMappingEntry<String>(this.field, this.value);
+      Assert.assertTrue(valueFieldMappingEntry.isConstant());
+      Assert.assertSame(valueFieldMappingEntry, valueFieldMappingEntry.toConstant());
+
+      final FieldMappingEntry<String> constantFieldMappingEntry =
+         new FieldMappingEntry<String>(this.field, new SetBasedValueGenerator<>(String.class, Collections.singleton(this.value), false));
+      Assert.assertTrue(constantFieldMappingEntry.isConstant());
+      Assert.assertEquals(this.value, constantFieldMappingEntry.toConstant().getOrGenerateValue());
+      Assert.assertTrue(constantFieldMappingEntry.toConstant().isConstant());
+
+      Assert.assertFalse(new FieldMappingEntry<String>(this.field, this.valueGenerator).isConstant());
+   }
+
+   /**
+    * Test for attempting to invoke {@link FieldMappingEntry#toConstant} with a value generator that is not constant.
+    */
+   @Test
+   public void toConstantNotConstant() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("Only constant field mapping entries can be converted to a constant value.");
+
+      new FieldMappingEntry<String>(this.field, this.valueGenerator).toConstant();
+   }
+
    /**
     * Test for attempting to create a {@link FieldMappingEntry} (with a value generator) using a null field parameter.
     */
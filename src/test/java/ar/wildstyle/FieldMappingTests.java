@@ -1,6 +1,7 @@
 package ar.wildstyle;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -13,6 +14,7 @@ import ar.wildstyle.test.BaseTest;
 import ar.wildstyle.test.ExamplePojo;
 import ar.wildstyle.test.ExamplePojoParent;
 import ar.wildstyle.valuegenerator.IntegerValueGenerator;
+import ar.wildstyle.valuegenerator.SetBasedValueGenerator;
 import ar.wildstyle.valuegenerator.StringValueGenerator;
 import ar.wildstyle.valuegenerator.ValueGenerator;
 
@@ -242,6 +244,167 @@ public class FieldMappingTests extends BaseTest {
       Assert.assertEquals(1, childFieldMappingEntry.getOrGenerateValue().toString().length());
    }
 
+   /**
+    * Test for a valid invocation of {@link FieldMapping#toOrderedArray}.
+    */
+   @Test
+   public void toOrderedArray() throws Exception {
+      this.fieldMapping.map(ExamplePojo.EXAMPLE_PRIVATE_STRING_FIELD_NAME, this.stringValue);
+      this.fieldMapping.map(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, new IntegerValueGenerator());
+      this.fieldMapping.map(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME, this.stringValue);
+
+      final FieldMappingEntry<?>[] fieldMappingEntries = this.fieldMapping.toOrderedArray();
+
+      // Fields declared by the parent come first, followed by the child's fields in declaration order.
+      Assert.assertEquals(3, fieldMappingEntries.length);
+      Assert.assertEquals(ExamplePojoParent.class.getDeclaredField(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME),
+         fieldMappingEntries[0].getField());
+      Assert.assertEquals(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME),
+         fieldMappingEntries[1].getField());
+      Assert.assertEquals(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_STRING_FIELD_NAME),
+         fieldMappingEntries[2].getField());
+   }
+
+   /**
+    * Test for a valid invocation of {@link FieldMapping#toOrderedArray} on an empty field mapping.
+    */
+   @Test
+   public void toOrderedArrayEmpty() {
+      Assert.assertEquals(0, this.fieldMapping.toOrderedArray().length);
+   }
+
+   /**
+    * Test for a valid invocation of {@link FieldMapping#populate}.
+    */
+   @Test
+   public void populate() throws Exception {
+      final FieldMapping<ExamplePojoParent> parentFieldMapping = new FieldMapping<>(ExamplePojoParent.class);
+      parentFieldMapping.map(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME, this.stringValue);
+      final FieldMapping<ExamplePojoParent> frozenParentFieldMapping = parentFieldMapping.freeze(null);
+
+      this.fieldMapping.map(this.stringFieldName, this.stringValue);
+      final FieldMapping<ExamplePojo> populatedFieldMapping = this.fieldMapping.populate(frozenParentFieldMapping);
+
+      final Map<Field, FieldMappingEntry<?>> populatedFieldMappingAsMap = new HashMap<>();
+      for (final FieldMappingEntry<?> fieldMappingEntry : populatedFieldMapping) {
+         populatedFieldMappingAsMap.put(fieldMappingEntry.getField(), fieldMappingEntry);
+      }
+
+      // Fields mapped by the field mapping are kept, and fields mapped by the parent field mapping are not populated.
+      Assert.assertEquals(this.stringValue,
+         populatedFieldMappingAsMap.get(ExamplePojo.class.getDeclaredField(this.stringFieldName)).getOrGenerateValue());
+      Assert.assertFalse(populatedFieldMappingAsMap.containsKey(
+         ExamplePojoParent.class.getDeclaredField(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME)));
+      Assert.assertTrue(populatedFieldMappingAsMap.containsKey(
+         ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME)));
+
+      // The nested object field is only populated when an object generator is registered with its type.
+      final Field nestedField = ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_OBJECT_FIELD_NAME);
+      Assert.assertFalse(populatedFieldMappingAsMap.containsKey(nestedField));
+
+      WildstyleGenerator.createObjectGenerator(Object.class).register();
+      FieldMappingEntry<?> nestedFieldMappingEntry = null;
+      for (final FieldMappingEntry<?> fieldMappingEntry : this.fieldMapping.populate(frozenParentFieldMapping)) {
+         if (fieldMappingEntry.getField().equals(nestedField)) {
+            nestedFieldMappingEntry = fieldMappingEntry;
+         }
+      }
+      Assert.assertNotNull(nestedFieldMappingEntry.getOrGenerateValue());
+
+      // Nested values are generated with the object generator registered when each value is generated, or null if there is none.
+      WildstyleGenerator.clearRegistry();
+      Assert.assertNull(nestedFieldMappingEntry.getOrGenerateValue());
+
+      // The original field mapping is not changed.
+      Assert.assertEquals(1, this.fieldMapping.toOrderedArray().length);
+   }
+
+   /**
+    * Test for a valid invocation of {@link FieldMapping#freeze}.
+    */
+   @Test
+   public void freeze() throws Exception {
+      final String childValue = "child";
+      final String parentValue = "parent";
+
+      final FieldMapping<ExamplePojoParent> parentFieldMapping = new FieldMapping<>(ExamplePojoParent.class);
+      parentFieldMapping.map(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME, parentValue);
+      parentFieldMapping.map(ExamplePojo.EXAMPLE_DUPLICATE_PRIVATE_STRING_FIELD_NAME, parentValue);
+      final FieldMapping<ExamplePojoParent> frozenParentFieldMapping = parentFieldMapping.freeze(null);
+
+      this.fieldMapping.map(ExamplePojo.EXAMPLE_PRIVATE_STRING_FIELD_NAME, childValue);
+      this.fieldMapping.map(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME, childValue);
+      final FieldMapping<ExamplePojo> frozenFieldMapping = this.fieldMapping.freeze(frozenParentFieldMapping);
+
+      // Later changes to the original field mapping do not affect the frozen field mapping.
+      this.fieldMapping.map(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, 1);
+
+      final FieldMappingEntry<?>[] fieldMappingEntries = frozenFieldMapping.toOrderedArray();
+
+      Assert.assertEquals(3, fieldMappingEntries.length);
+      Assert.assertEquals(ExamplePojoParent.class.getDeclaredField(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME),
+         fieldMappingEntries[0].getField());
+      Assert.assertEquals(childValue, fieldMappingEntries[0].getOrGenerateValue());
+      Assert.assertEquals(ExamplePojoParent.class.getDeclaredField(ExamplePojo.EXAMPLE_DUPLICATE_PRIVATE_STRING_FIELD_NAME),
+         fieldMappingEntries[1].getField());
+      Assert.assertSame(frozenParentFieldMapping.toOrderedArray()[1], fieldMappingEntries[1]);
+      Assert.assertEquals(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_PRIVATE_STRING_FIELD_NAME),
+         fieldMappingEntries[2].getField());
+      Assert.assertEquals(childValue, fieldMappingEntries[2].getOrGenerateValue());
+
+      int count = 0;
+      for (final FieldMappingEntry<?> fieldMappingEntry : frozenFieldMapping) {
+         Assert.assertNotNull(fieldMappingEntry);
+         count++;
+      }
+      Assert.assertEquals(3, count);
+   }
+
+   /**
+    * Test for a valid invocation of {@link FieldMapping#freeze} with a constant value generator.
+    */
+   @Test
+   public void freezeConstantValueGenerator() {
+      final FieldMapping<ExamplePojoParent> parentFieldMapping = new FieldMapping<>(ExamplePojoParent.class);
+      parentFieldMapping.map(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME,
+         new SetBasedValueGenerator<>(String.class, Collections.singleton(this.stringValue), false));
+      final FieldMapping<ExamplePojoParent> frozenParentFieldMapping = parentFieldMapping.freeze(null);
+
+      final FieldMappingEntry<?> constantFieldMappingEntry = frozenParentFieldMapping.toOrderedArray()[0];
+      Assert.assertNotSame(parentFieldMapping.toOrderedArray()[0], constantFieldMappingEntry);
+      Assert.assertEquals(this.stringValue, constantFieldMappingEntry.getOrGenerateValue());
+
+      // Field mappings layered on top of the frozen field mapping share its constant value.
+      final FieldMapping<ExamplePojo> frozenFieldMapping = this.fieldMapping.freeze(frozenParentFieldMapping);
+      Assert.assertSame(constantFieldMappingEntry, frozenFieldMapping.toOrderedArray()[0]);
+   }
+
+   /**
+    * Test for attempting to invoke {@link FieldMapping#map} on a frozen field mapping.
+    */
+   @Test
+   public void freezeMap() {
+      final FieldMapping<ExamplePojo> frozenFieldMapping = this.fieldMapping.freeze(null);
+
+      this.expectedException.expect(UnsupportedOperationException.class);
+
+      frozenFieldMapping.map(this.stringFieldName, this.stringValue);
+   }
+
+   /**
+    * Test for attempting to invoke {@link FieldMapping#freeze} on a frozen field mapping.
+    */
+   @Test
+   public void freezeFrozen() {
+      final FieldMapping<ExamplePojoParent> frozenParentFieldMapping = new FieldMapping<>(ExamplePojoParent.class).freeze(null);
+      final FieldMapping<ExamplePojo> frozenFieldMapping = this.fieldMapping.freeze(frozenParentFieldMapping);
+
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("Only field mappings without a parent field mapping can be frozen.");
+
+      frozenFieldMapping.freeze(null);
+   }
+
    /**
     * Test for attempting to invoke {@link FieldMapping#map} with a private field's name and a null value generator.
     */
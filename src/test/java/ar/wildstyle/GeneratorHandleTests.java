@@ -0,0 +1,128 @@
+package ar.wildstyle;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ar.wildstyle.test.BaseTest;
+import ar.wildstyle.test.ExamplePojo;
+
+/**
+ * {@code GeneratorHandleTests} contains tests for the {@link GeneratorHandle} class.
+ *
+ * @author Adam Rosini
+ */
+public class GeneratorHandleTests extends BaseTest {
+
+   /**
+    * Test for {@linkplain GeneratorHandle#generate generating} an object with a generator handle obtained after an
+    * {@linkplain ObjectGenerator object generator} was {@linkplain ObjectGeneratorBuilder#register registered}.
+    */
+   @Test
+   public void generate() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+         .mapField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, 1)
+         .register();
+
+      final GeneratorHandle<ExamplePojo> generatorHandle = WildstyleGenerator.getGeneratorHandle(ExamplePojo.class);
+
+      Assert.assertEquals(ExamplePojo.class, generatorHandle.getValueType());
+      Assert.assertEquals(ObjectGenerator.DEFAULT_NAME, generatorHandle.getName());
+      Assert.assertTrue(generatorHandle.isRegistered());
+      Assert.assertSame(objectGenerator, generatorHandle.getObjectGenerator());
+      Assert.assertEquals(1, generatorHandle.generate().getExamplePrivateInt());
+   }
+
+   /**
+    * Test for {@linkplain GeneratorHandle#generate generating} an object with a generator handle obtained before an
+    * {@linkplain ObjectGenerator object generator} was {@linkplain ObjectGeneratorBuilder#register registered}, and after it was
+    * registered again with the same name.
+    */
+   @Test
+   public void generateReregistered() {
+      final GeneratorHandle<ExamplePojo> generatorHandle = WildstyleGenerator.getGeneratorHandle(ExamplePojo.class, "name");
+      Assert.assertFalse(generatorHandle.isRegistered());
+      Assert.assertNull(generatorHandle.getObjectGenerator());
+
+      WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+         .setName("name")
+         .mapField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, 1)
+         .register();
+      Assert.assertEquals(1, generatorHandle.generate().getExamplePrivateInt());
+
+      WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+         .setName("name")
+         .mapField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, 2)
+         .register();
+      Assert.assertEquals(2, generatorHandle.generate().getExamplePrivateInt());
+
+      Assert.assertSame(generatorHandle.getObjectGenerator(),
+         WildstyleGenerator.getGeneratorHandle(ExamplePojo.class, "name").getObjectGenerator());
+   }
+
+   /**
+    * Test for attempting to {@linkplain GeneratorHandle#generate generate} an object with a generator handle after the registry was
+    * {@linkplain WildstyleGenerator#clearRegistry cleared}.
+    */
+   @Test
+   public void generateClearedRegistry() {
+      WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+         .setName("name")
+         .register();
+
+      final GeneratorHandle<ExamplePojo> generatorHandle = WildstyleGenerator.getGeneratorHandle(ExamplePojo.class, "name");
+      Assert.assertTrue(generatorHandle.isRegistered());
+
+      WildstyleGenerator.clearRegistry();
+      Assert.assertFalse(generatorHandle.isRegistered());
+
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("Did not find a 'class ar.wildstyle.test.ExamplePojo' value generator with the name 'name'.");
+
+      generatorHandle.generate();
+   }
+
+   /**
+    * Test for generating an object with a {@linkplain GeneratorHandle generator handle} obtained before the registry was
+    * {@linkplain WildstyleGenerator#clearRegistry cleared}, which points at the object generator registered afterwards.
+    */
+   @Test
+   public void generateClearedRegistryReregistered() {
+      WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+         .mapField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, 1)
+         .register();
+
+      final GeneratorHandle<ExamplePojo> generatorHandle = WildstyleGenerator.getGeneratorHandle(ExamplePojo.class);
+      WildstyleGenerator.clearRegistry();
+
+      final ObjectGenerator<ExamplePojo> objectGenerator = WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+         .mapField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, 2)
+         .register();
+
+      Assert.assertTrue(generatorHandle.isRegistered());
+      Assert.assertSame(objectGenerator, generatorHandle.getObjectGenerator());
+      Assert.assertEquals(2, generatorHandle.generate().getExamplePrivateInt());
+   }
+
+   /**
+    * Test for attempting to create a generator handle with a null value type.
+    */
+   @Test
+   public void generatorHandleNullValueType() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'valueType' parameter cannot be null.");
+
+      new GeneratorHandle<ExamplePojo>(null, "name");
+   }
+
+   /**
+    * Test for attempting to create a generator handle with an empty name.
+    */
+   @Test
+   public void generatorHandleEmptyName() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'name' parameter cannot be empty.");
+
+      new GeneratorHandle<ExamplePojo>(ExamplePojo.class, "");
+   }
+
+}
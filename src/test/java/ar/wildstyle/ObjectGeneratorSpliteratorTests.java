@@ -0,0 +1,148 @@
+package ar.wildstyle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import ar.wildstyle.test.BaseTest;
+import ar.wildstyle.test.ExamplePojo;
+import ar.wildstyle.valuegenerator.IntegerValueGenerator;
+
+/**
+ * {@code ObjectGeneratorSpliteratorTests} contains tests for the {@link ObjectGeneratorSpliterator} class.
+ *
+ * @author Adam Rosini
+ */
+public class ObjectGeneratorSpliteratorTests extends BaseTest {
+
+   /**
+    * Initializes shared test objects.
+    */
+   @Before
+   public void initialize() {
+      this.objectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class) {
+            {
+               this.map(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, new IntegerValueGenerator(1, 5));
+            }
+         },
+         Arrays.asList(),
+         0,
+         null);
+   }
+
+   /**
+    * Test for {@linkplain ObjectGeneratorSpliterator#tryAdvance advancing} an {@code ObjectGeneratorSpliterator} one value at a time.
+    */
+   @Test
+   public void tryAdvance() {
+      final ObjectGeneratorSpliterator<ExamplePojo> spliterator =
+         new ObjectGeneratorSpliterator<ExamplePojo>(this.objectGenerator, new SplittableRandom(), 0, 2);
+
+      final List<ExamplePojo> examplePojos = new ArrayList<>();
+      Assert.assertTrue(spliterator.tryAdvance(examplePojos::add));
+      Assert.assertTrue(spliterator.tryAdvance(examplePojos::add));
+      Assert.assertFalse(spliterator.tryAdvance(examplePojos::add));
+
+      Assert.assertEquals(2, examplePojos.size());
+      Assert.assertEquals(0, spliterator.estimateSize());
+   }
+
+   /**
+    * Test for {@linkplain ObjectGeneratorSpliterator#forEachRemaining generating} more values than fit in a single batch.
+    */
+   @Test
+   public void forEachRemaining() {
+      final int count = ObjectGeneratorSpliterator.BATCH_SIZE * 2 + 1;
+      final ObjectGeneratorSpliterator<ExamplePojo> spliterator =
+         new ObjectGeneratorSpliterator<ExamplePojo>(this.objectGenerator, new SplittableRandom(), 0, count);
+
+      final List<ExamplePojo> examplePojos = new ArrayList<>();
+      spliterator.forEachRemaining(examplePojos::add);
+
+      Assert.assertEquals(count, examplePojos.size());
+      Assert.assertEquals(0, spliterator.estimateSize());
+      for (final ExamplePojo examplePojo : examplePojos) {
+         Assert.assertTrue(examplePojo.getExamplePrivateInt() >= 1);
+         Assert.assertTrue(examplePojo.getExamplePrivateInt() <= 5);
+      }
+   }
+
+   /**
+    * Test for {@linkplain ObjectGeneratorSpliterator#trySplit splitting} an {@code ObjectGeneratorSpliterator}.
+    */
+   @Test
+   public void trySplit() {
+      final ObjectGeneratorSpliterator<ExamplePojo> spliterator =
+         new ObjectGeneratorSpliterator<ExamplePojo>(this.objectGenerator, new SplittableRandom(), 0, 11);
+
+      final ObjectGeneratorSpliterator<ExamplePojo> prefix = spliterator.trySplit();
+
+      Assert.assertNotNull(prefix);
+      Assert.assertEquals(5, prefix.estimateSize());
+      Assert.assertEquals(6, spliterator.estimateSize());
+
+      final List<ExamplePojo> examplePojos = new ArrayList<>();
+      prefix.forEachRemaining(examplePojos::add);
+      spliterator.forEachRemaining(examplePojos::add);
+      Assert.assertEquals(11, examplePojos.size());
+   }
+
+   /**
+    * Test for attempting to {@linkplain ObjectGeneratorSpliterator#trySplit split} an {@code ObjectGeneratorSpliterator} which covers
+    * a single value.
+    */
+   @Test
+   public void trySplitSingleValue() {
+      final ObjectGeneratorSpliterator<ExamplePojo> spliterator =
+         new ObjectGeneratorSpliterator<ExamplePojo>(this.objectGenerator, new SplittableRandom(), 0, 1);
+
+      Assert.assertNull(spliterator.trySplit());
+      Assert.assertEquals(1, spliterator.estimateSize());
+   }
+
+   /**
+    * Test for the {@linkplain ObjectGeneratorSpliterator#characteristics characteristics} of an {@code ObjectGeneratorSpliterator}.
+    */
+   @Test
+   public void characteristics() {
+      final ObjectGeneratorSpliterator<ExamplePojo> spliterator =
+         new ObjectGeneratorSpliterator<ExamplePojo>(this.objectGenerator, new SplittableRandom(), 0, 1);
+
+      Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+      Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+      Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+      Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+
+      final ObjectGenerator<ExamplePojo> nullableObjectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME, new FieldMapping<ExamplePojo>(ExamplePojo.class), Arrays.asList(), 50, null);
+      final ObjectGeneratorSpliterator<ExamplePojo> nullableSpliterator =
+         new ObjectGeneratorSpliterator<ExamplePojo>(nullableObjectGenerator, new SplittableRandom(), 0, 1);
+
+      Assert.assertFalse(nullableSpliterator.hasCharacteristics(Spliterator.NONNULL));
+   }
+
+   /**
+    * Test for attempting to create an {@code ObjectGeneratorSpliterator} with an index greater than its fence.
+    */
+   @Test
+   public void objectGeneratorSpliteratorIndexGreaterThanFence() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'index' parameter must be less than or equal to the 'fence' parameter.");
+
+      new ObjectGeneratorSpliterator<ExamplePojo>(this.objectGenerator, new SplittableRandom(), 2, 1);
+   }
+
+   /**
+    * An example object generator.
+    */
+   private ObjectGenerator<ExamplePojo> objectGenerator;
+
+}
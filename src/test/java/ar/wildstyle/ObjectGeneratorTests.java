@@ -1,16 +1,24 @@
 package ar.wildstyle;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import ar.wildstyle.test.BaseTest;
+import ar.wildstyle.test.CloneablePojo;
 import ar.wildstyle.test.ExamplePojo;
 import ar.wildstyle.test.ExamplePojoParent;
 import ar.wildstyle.valuegenerator.IntegerValueGenerator;
+import ar.wildstyle.valuegenerator.ListBasedValueGenerator;
 import ar.wildstyle.valuegenerator.StringValueGenerator;
+import ar.wildstyle.valuegenerator.ValueGenerator;
 
 /**
  * {@code ObjectGeneratorTests} contains tests for the {@link ObjectGeneratorTest} class.
@@ -91,6 +99,44 @@ public class ObjectGeneratorTests extends BaseTest {
       Assert.assertEquals(this.parentStringFieldValue, examplePojo.getExampleParentPrivateString());
    }
 
+   /**
+    * Test for creating a valid object generator with a mix of constant and value generator constructor arguments.
+    */
+   @Test
+   public void objectGeneratorMixedConstructorArguments() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class),
+         Arrays.asList(null, 1, new IntegerValueGenerator(5, 6)),
+         0,
+         null);
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final ExamplePojo examplePojo = objectGenerator.generateValue();
+
+         Assert.assertNull(examplePojo.getExamplePrivateObject());
+         Assert.assertEquals(Integer.valueOf(1), examplePojo.getExamplePrivateInteger());
+         Assert.assertTrue(examplePojo.getExamplePrivateInt() >= 5);
+         Assert.assertTrue(examplePojo.getExamplePrivateInt() <= 6);
+      }
+   }
+
+   /**
+    * Test for creating a valid object generator without generating any constructor argument values.
+    */
+   @Test
+   public void objectGeneratorDoesNotGenerateConstructorArguments() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class),
+         Arrays.asList(new ListBasedValueGenerator<String>(String.class, Arrays.asList("first", "second"), true)),
+         0,
+         null);
+
+      Assert.assertEquals("first", objectGenerator.generateValue().getExamplePrivateString());
+      Assert.assertEquals("second", objectGenerator.generateValue().getExamplePrivateString());
+   }
+
    /**
     * Test for creating a valid object generator that uses a default constructor.
     */
@@ -151,6 +197,94 @@ public class ObjectGeneratorTests extends BaseTest {
       }
    }
 
+   /**
+    * Test for invoking {@link ObjectGenerator#characteristics}, which combines the characteristics of the object generator's field mapping
+    * entries and constructor argument value generators.
+    */
+   @Test
+   public void characteristics() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class) {
+            {
+               this.map(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME, ObjectGeneratorTests.this.parentStringFieldValue);
+            }
+         },
+         Arrays.asList(new StringValueGenerator(1, 1)),
+         0,
+         null);
+
+      Assert.assertEquals(ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC,
+         objectGenerator.characteristics());
+
+      final ObjectGenerator<ExamplePojo> nullableObjectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class),
+         Arrays.asList(new ListBasedValueGenerator<>(String.class, Arrays.asList("a", "b"), true)),
+         50,
+         null);
+
+      Assert.assertEquals(ValueGenerator.CONCURRENT | ValueGenerator.NULLABLE, nullableObjectGenerator.characteristics());
+   }
+
+   /**
+    * Test for generating values with an object generator whose value type has a public {@code clone} method and which is created without
+    * opting in to cloning, which constructs each value.
+    */
+   @Test
+   public void generateValueConstructsCloneable() {
+      final ObjectGenerator<CloneablePojo> objectGenerator = new ObjectGenerator<CloneablePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<CloneablePojo>(CloneablePojo.class) {
+            {
+               this.map(CloneablePojo.CONSTANT_FIELD_NAME, "constantValue");
+               this.map(CloneablePojo.GENERATED_FIELD_NAME, new IntegerValueGenerator(0, 1_000_000));
+            }
+         },
+         Arrays.asList(),
+         0,
+         null);
+
+      final int constructedCount = CloneablePojo.CONSTRUCTED_COUNT.get();
+      final List<CloneablePojo> values = new ArrayList<>(objectGenerator.generateBatch(100));
+      values.add(objectGenerator.generateValue());
+
+      Assert.assertEquals(constructedCount + values.size(), CloneablePojo.CONSTRUCTED_COUNT.get());
+      Assert.assertTrue(values.stream().allMatch(value -> "constantValue".equals(value.getConstantField())));
+   }
+
+   /**
+    * Test for generating values with an object generator which opts in to cloning and whose value type has a public {@code clone} method,
+    * which clones a prototype instance with the constant fields already set rather than constructing each value. The clones are shallow,
+    * so they share the prototype's constant field value.
+    */
+   @Test
+   public void generateValueClonesPrototype() {
+      final ObjectGenerator<CloneablePojo> objectGenerator = new ObjectGenerator<CloneablePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<CloneablePojo>(CloneablePojo.class) {
+            {
+               this.map(CloneablePojo.CONSTANT_FIELD_NAME, "constantValue");
+               this.map(CloneablePojo.GENERATED_FIELD_NAME, new IntegerValueGenerator(0, 1_000_000));
+            }
+         },
+         Arrays.asList(),
+         0,
+         null,
+         false,
+         true);
+
+      final int constructedCount = CloneablePojo.CONSTRUCTED_COUNT.get();
+      final List<CloneablePojo> values = new ArrayList<>(objectGenerator.generateBatch(100));
+      values.add(objectGenerator.generateValue());
+
+      Assert.assertEquals(constructedCount + 1, CloneablePojo.CONSTRUCTED_COUNT.get());
+      Assert.assertTrue(values.stream().allMatch(value -> value.getConstantField() == values.get(0).getConstantField()));
+      Assert.assertEquals(values.size(), values.stream().distinct().count());
+      Assert.assertTrue(values.stream().allMatch(value -> "constantValue".equals(value.getConstantField())));
+      Assert.assertTrue(values.stream().mapToInt(CloneablePojo::getGeneratedField).distinct().count() > 1);
+   }
+
    /**
     * Test for creating a valid object generator which inherits from another object generator.
     */
@@ -219,6 +353,296 @@ public class ObjectGeneratorTests extends BaseTest {
       Assert.assertNull(examplePojo.getExamplePrivateInteger());
    }
 
+   /**
+    * Test for {@linkplain ObjectGenerator#generateBatch generating} a batch of values.
+    */
+   @Test
+   public void generateBatch() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class) {
+            {
+               this.map(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME, ObjectGeneratorTests.this.parentStringFieldValue);
+               this.map(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, new IntegerValueGenerator(1, 5));
+            }
+         },
+         Arrays.asList(new StringValueGenerator(2, 2)),
+         0,
+         null);
+
+      final List<ExamplePojo> examplePojos = objectGenerator.generateBatch(BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT);
+
+      Assert.assertEquals(BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT, examplePojos.size());
+      for (final ExamplePojo examplePojo : examplePojos) {
+         Assert.assertEquals(2, examplePojo.getExamplePrivateString().length());
+         Assert.assertEquals(this.parentStringFieldValue, examplePojo.getExampleParentPrivateString());
+         Assert.assertTrue(examplePojo.getExamplePrivateInt() >= 1);
+         Assert.assertTrue(examplePojo.getExamplePrivateInt() <= 5);
+      }
+   }
+
+   /**
+    * Test for {@linkplain ObjectGenerator#generateBatch generating} a batch of values in order, using a value generator which generates
+    * values in order.
+    */
+   @Test
+   public void generateBatchInOrder() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class) {
+            {
+               this.map(ExamplePojo.EXAMPLE_PRIVATE_STRING_FIELD_NAME,
+                  new ListBasedValueGenerator<String>(String.class, Arrays.asList("a", "b", "c"), true));
+            }
+         },
+         Arrays.asList(),
+         0,
+         null);
+
+      final List<ExamplePojo> examplePojos = objectGenerator.generateBatch(4);
+
+      Assert.assertEquals("a", examplePojos.get(0).getExamplePrivateString());
+      Assert.assertEquals("b", examplePojos.get(1).getExamplePrivateString());
+      Assert.assertEquals("c", examplePojos.get(2).getExamplePrivateString());
+      Assert.assertEquals("a", examplePojos.get(3).getExamplePrivateString());
+   }
+
+   /**
+    * Test for {@linkplain ObjectGenerator#generateBatch generating} a batch of values with an object generator that always generates a null
+    * value.
+    */
+   @Test
+   public void generateBatchAlwaysNullValue() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class) {
+            {
+               this.map(ExamplePojo.EXAMPLE_PRIVATE_STRING_FIELD_NAME, ObjectGeneratorTests.this.childStringFieldValue);
+            }
+         },
+         Arrays.asList(),
+         100,
+         null);
+
+      for (final ExamplePojo examplePojo : objectGenerator.generateBatch(BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT)) {
+         Assert.assertNull(examplePojo);
+      }
+   }
+
+   /**
+    * Test for attempting to {@linkplain ObjectGenerator#generateBatch generate} a batch with a negative count.
+    */
+   @Test
+   public void generateBatchNegativeCount() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'count' parameter must be greater than or equal to 0.");
+
+      this.objectGeneratorParent.generateBatch(-1);
+   }
+
+   /**
+    * Test for {@linkplain ObjectGenerator#generateParallel generating} values in parallel with the same seed using fork/join pools with
+    * different numbers of threads.
+    */
+   @Test
+   public void generateParallel() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class) {
+            {
+               this.map(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, new IntegerValueGenerator());
+               this.map(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME, ObjectGeneratorTests.this.parentStringFieldValue);
+            }
+         },
+         Arrays.asList(new StringValueGenerator()),
+         25,
+         null);
+
+      final int count = ObjectGenerator.PARALLEL_CHUNK_SIZE * 3 + 1;
+      final ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+      final ForkJoinPool multiThreadPool = new ForkJoinPool(4);
+
+      try {
+         final List<ExamplePojo> examplePojosA = objectGenerator.generateParallel(count, 42, singleThreadPool);
+         final List<ExamplePojo> examplePojosB = objectGenerator.generateParallel(count, 42, multiThreadPool);
+
+         Assert.assertEquals(count, examplePojosA.size());
+         Assert.assertEquals(count, examplePojosB.size());
+
+         for (int x = 0; x < count; x++) {
+            final ExamplePojo examplePojoA = examplePojosA.get(x);
+            final ExamplePojo examplePojoB = examplePojosB.get(x);
+
+            if (examplePojoA == null) {
+               Assert.assertNull(examplePojoB);
+            }
+            else {
+               Assert.assertEquals(examplePojoA.getExamplePrivateString(), examplePojoB.getExamplePrivateString());
+               Assert.assertEquals(examplePojoA.getExamplePrivateInt(), examplePojoB.getExamplePrivateInt());
+               Assert.assertEquals(this.parentStringFieldValue, examplePojoA.getExampleParentPrivateString());
+            }
+         }
+      }
+      finally {
+         singleThreadPool.shutdown();
+         multiThreadPool.shutdown();
+      }
+   }
+
+   /**
+    * Test for {@linkplain ObjectGenerator#generateParallel generating} no values in parallel.
+    */
+   @Test
+   public void generateParallelNoValues() {
+      Assert.assertTrue(this.objectGeneratorParent.generateParallel(0, 42, ForkJoinPool.commonPool()).isEmpty());
+   }
+
+   /**
+    * Test for attempting to {@linkplain ObjectGenerator#generateParallel generate} values in parallel with a negative count.
+    */
+   @Test
+   public void generateParallelNegativeCount() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'count' parameter must be greater than or equal to 0.");
+
+      this.objectGeneratorParent.generateParallel(-1, 42, ForkJoinPool.commonPool());
+   }
+
+   /**
+    * Test for attempting to {@linkplain ObjectGenerator#generateParallel generate} values in parallel with a null pool.
+    */
+   @Test
+   public void generateParallelNullPool() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'pool' parameter cannot be null.");
+
+      this.objectGeneratorParent.generateParallel(1, 42, null);
+   }
+
+   /**
+    * Test for {@linkplain ObjectGenerator#split splitting} an object generator.
+    */
+   @Test
+   public void split() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class) {
+            {
+               this.map(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, new IntegerValueGenerator(1, 5));
+               this.map(ExamplePojoParent.EXAMPLE_PARENT_PRIVATE_STRING_FIELD_NAME, ObjectGeneratorTests.this.parentStringFieldValue);
+            }
+         },
+         Arrays.asList(new StringValueGenerator(2, 2)),
+         0,
+         null);
+
+      final ObjectGenerator<ExamplePojo> splitObjectGenerator = objectGenerator.split(new SplittableRandom());
+
+      Assert.assertNotSame(objectGenerator, splitObjectGenerator);
+      Assert.assertEquals(objectGenerator.getName(), splitObjectGenerator.getName());
+      Assert.assertEquals(objectGenerator.getValueType(), splitObjectGenerator.getValueType());
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final ExamplePojo examplePojo = splitObjectGenerator.generateValue();
+         Assert.assertEquals(2, examplePojo.getExamplePrivateString().length());
+         Assert.assertEquals(this.parentStringFieldValue, examplePojo.getExampleParentPrivateString());
+         Assert.assertTrue(examplePojo.getExamplePrivateInt() >= 1);
+         Assert.assertTrue(examplePojo.getExamplePrivateInt() <= 5);
+      }
+   }
+
+   /**
+    * Test for {@linkplain ObjectGenerator#split splitting} an object generator with the same seed more than once.
+    */
+   @Test
+   public void splitSameSeed() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = new ObjectGenerator<ExamplePojo>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojo>(ExamplePojo.class) {
+            {
+               this.map(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, new IntegerValueGenerator());
+            }
+         },
+         Arrays.asList(new StringValueGenerator()),
+         50,
+         null);
+
+      final ObjectGenerator<ExamplePojo> splitObjectGeneratorA = objectGenerator.split(new SplittableRandom(42));
+      final ObjectGenerator<ExamplePojo> splitObjectGeneratorB = objectGenerator.split(new SplittableRandom(42));
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final ExamplePojo examplePojoA = splitObjectGeneratorA.generateValue();
+         final ExamplePojo examplePojoB = splitObjectGeneratorB.generateValue();
+
+         if (examplePojoA == null) {
+            Assert.assertNull(examplePojoB);
+         }
+         else {
+            Assert.assertEquals(examplePojoA.getExamplePrivateString(), examplePojoB.getExamplePrivateString());
+            Assert.assertEquals(examplePojoA.getExamplePrivateInt(), examplePojoB.getExamplePrivateInt());
+         }
+      }
+   }
+
+   /**
+    * Test for attempting to {@linkplain ObjectGenerator#split split} an object generator with a null random parameter.
+    */
+   @Test
+   public void splitNullRandom() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'random' parameter cannot be null.");
+
+      this.objectGeneratorParent.split(null);
+   }
+
+   /**
+    * Test for {@linkplain ObjectGenerator#stream(long) streaming} a fixed number of values.
+    */
+   @Test
+   public void stream() {
+      final List<ExamplePojo> examplePojos =
+         this.objectGeneratorParent.stream(BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT).collect(Collectors.toList());
+
+      Assert.assertEquals(BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT, examplePojos.size());
+      for (final ExamplePojo examplePojo : examplePojos) {
+         Assert.assertEquals(this.parentStringFieldValue, examplePojo.getExampleParentPrivateString());
+      }
+   }
+
+   /**
+    * Test for {@linkplain ObjectGenerator#stream(long) streaming} a fixed number of values in parallel.
+    */
+   @Test
+   public void streamParallel() {
+      final List<ExamplePojo> examplePojos =
+         this.objectGeneratorParent.stream(BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT).parallel().collect(Collectors.toList());
+
+      Assert.assertEquals(BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT, examplePojos.size());
+      for (final ExamplePojo examplePojo : examplePojos) {
+         Assert.assertEquals(this.parentStringFieldValue, examplePojo.getExampleParentPrivateString());
+      }
+   }
+
+   /**
+    * Test for {@linkplain ObjectGenerator#stream() streaming} an unlimited number of values.
+    */
+   @Test
+   public void streamUnlimited() {
+      Assert.assertEquals(10, this.objectGeneratorParent.stream().limit(10).count());
+      Assert.assertEquals(Long.MAX_VALUE, this.objectGeneratorParent.stream().spliterator().estimateSize());
+   }
+
+   /**
+    * Test for attempting to {@linkplain ObjectGenerator#stream(long) stream} a negative number of values.
+    */
+   @Test
+   public void streamNegativeCount() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'count' parameter must be greater than or equal to 0.");
+
+      this.objectGeneratorParent.stream(-1);
+   }
+
    /**
     * Test for attempting to create an object generator with a constructor arguments parameter that does not correspond to a constructor for
     * the value type parameter.
@@ -237,6 +661,36 @@ public class ObjectGeneratorTests extends BaseTest {
          null);
    }
 
+   /**
+    * Test for attempting to create an object generator with a parent object generator whose field mapping contains fields which are not
+    * declared by the value type or any of its parents.
+    */
+   @Test
+   @SuppressWarnings({ "rawtypes", "unchecked" })
+   public void objectGeneratorUnrelatedParent() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'examplePrivateString' field is not declared by 'ar.wildstyle.test.ExamplePojoParent' " +
+         "or any of its parents.");
+
+      final ObjectGenerator unrelatedParent = new ObjectGenerator<ExamplePojo>(
+         "unrelated",
+         new FieldMapping<ExamplePojo>(ExamplePojo.class) {
+            {
+               this.map(ExamplePojo.EXAMPLE_PRIVATE_STRING_FIELD_NAME, ObjectGeneratorTests.this.childStringFieldValue);
+            }
+         },
+         Arrays.asList(),
+         0,
+         null);
+
+      new ObjectGenerator<ExamplePojoParent>(
+         ObjectGenerator.DEFAULT_NAME,
+         new FieldMapping<ExamplePojoParent>(ExamplePojoParent.class),
+         Arrays.asList(),
+         0,
+         unrelatedParent);
+   }
+
    /**
     * Test for attempting to create an object generator with a null name parameter.
     */
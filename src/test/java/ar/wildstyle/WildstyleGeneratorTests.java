@@ -1,14 +1,23 @@
 package ar.wildstyle;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
 import ar.wildstyle.test.BaseTest;
+import ar.wildstyle.test.CloneablePojo;
 import ar.wildstyle.test.ConstructorArgPojo;
 import ar.wildstyle.test.ExamplePojo;
 import ar.wildstyle.test.ExamplePojo.ExamplePojoEnum;
 import ar.wildstyle.test.ExamplePojoParent;
+import ar.wildstyle.test.NestedPojo;
+import ar.wildstyle.test.StaticFieldPojo;
 import ar.wildstyle.valuegenerator.BooleanValueGenerator;
 import ar.wildstyle.valuegenerator.ByteValueGenerator;
 import ar.wildstyle.valuegenerator.DoubleValueGenerator;
@@ -197,6 +206,22 @@ public class WildstyleGeneratorTests extends BaseTest {
       Assert.assertEquals(name, objectGenerator.getName());
    }
 
+   /**
+    * Test for {@linkplain WildstyleGenerator#createObjectGenerator creating} an {@link ObjectGenerator} with a field mapping which maps
+    * {@code static} fields.
+    */
+   @Test
+   public void createObjectGeneratorStaticFields() {
+      WildstyleGenerator.createObjectGenerator(StaticFieldPojo.class)
+         .mapField(StaticFieldPojo.EXAMPLE_STATIC_STRING_FIELD_NAME, "exampleStaticString")
+         .mapField(StaticFieldPojo.EXAMPLE_STATIC_INT_FIELD_NAME, new IntegerValueGenerator(1, 1))
+         .register()
+         .generateValue();
+
+      Assert.assertEquals("exampleStaticString", StaticFieldPojo.getExampleStaticString());
+      Assert.assertEquals(1, StaticFieldPojo.getExampleStaticInt());
+   }
+
    /**
     * Test for {@linkplain WildstyleGenerator#createObjectGenerator creating} an {@link ObjectGenerator} with a null chance.
     */
@@ -311,6 +336,110 @@ public class WildstyleGeneratorTests extends BaseTest {
       Assert.assertEquals(1, examplePojo3.getExamplePrivateInt());
    }
 
+   /**
+    * Test for {@linkplain WildstyleGenerator#createObjectGenerator creating} an {@link ObjectGenerator} which
+    * {@linkplain ObjectGeneratorBuilder#setAutoPopulate auto-populates} unmapped fields.
+    */
+   @Test
+   public void createObjectGeneratorAutoPopulate() {
+      // Nested fields are populated if an object generator is registered with the field's type.
+      WildstyleGenerator.createObjectGenerator(Object.class).register();
+
+      final ObjectGenerator<ExamplePojo> parentObjectGenerator = WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+         .setName("parent")
+         .mapField(ExamplePojo.EXAMPLE_PRIVATE_INTEGER_FIELD_NAME, 1)
+         .register();
+
+      final ObjectGenerator<ExamplePojo> objectGenerator = WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+         .setParent(parentObjectGenerator)
+         .setAutoPopulate(true)
+         .mapField(ExamplePojo.EXAMPLE_PRIVATE_STRING_FIELD_NAME, "examplePrivateString")
+         .register();
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final ExamplePojo examplePojo = objectGenerator.generateValue();
+
+         // Mapped fields take precedence over default mappings.
+         Assert.assertEquals("examplePrivateString", examplePojo.getExamplePrivateString());
+         Assert.assertEquals(Integer.valueOf(1), examplePojo.getExamplePrivateInteger());
+
+         Assert.assertNotNull(examplePojo.getExamplePrivateBooleanWrapper());
+         Assert.assertNotNull(examplePojo.getExamplePrivateByteWrapper());
+         Assert.assertNotNull(examplePojo.getExamplePrivateCharacter());
+         Assert.assertNotNull(examplePojo.getExamplePrivateDoubleWrapper());
+         Assert.assertNotNull(examplePojo.getExamplePrivateEnum());
+         Assert.assertNotNull(examplePojo.getExamplePrivateFloatWrapper());
+         Assert.assertNotNull(examplePojo.getExamplePrivateLongWrapper());
+         Assert.assertNotNull(examplePojo.getExamplePrivateShortWrapper());
+         Assert.assertNotNull(examplePojo.getExamplePrivateFirstNameString());
+         Assert.assertNotNull(examplePojo.getExampleParentPrivateString());
+         Assert.assertNotNull(examplePojo.getExamplePrivateObject());
+      }
+
+      // Object generators which do not auto-populate leave unmapped fields alone.
+      Assert.assertNull(parentObjectGenerator.generateValue().getExamplePrivateFirstNameString());
+   }
+
+   /**
+    * Test for generating values with an {@link ObjectGenerator} which {@linkplain ObjectGeneratorBuilder#setAutoPopulate auto-populates}
+    * fields of collection and JDK value types without registered object generators, which are left alone.
+    */
+   @Test
+   public void createObjectGeneratorAutoPopulateUnregisteredNestedTypes() {
+      final ObjectGenerator<NestedPojo> objectGenerator = WildstyleGenerator.createObjectGenerator(NestedPojo.class)
+         .setAutoPopulate(true)
+         .register();
+
+      final NestedPojo nestedPojo = objectGenerator.generateValue();
+      Assert.assertNotNull(nestedPojo.getExampleString());
+      Assert.assertEquals(new ArrayList<>(), nestedPojo.getExampleList());
+      Assert.assertEquals(BigDecimal.ONE, nestedPojo.getExampleBigDecimal());
+      Assert.assertNull(nestedPojo.getExampleUuid());
+
+      Assert.assertEquals(10, objectGenerator.generateParallel(10, 42, ForkJoinPool.commonPool()).size());
+   }
+
+   /**
+    * Test for generating values with an {@link ObjectGenerator} which {@linkplain ObjectGeneratorBuilder#setAutoPopulate auto-populates}
+    * a field of its own type, whose nested values stop at the {@linkplain DefaultFieldPlan#MAX_NESTING_DEPTH maximum nesting depth}.
+    */
+   @Test
+   public void createObjectGeneratorAutoPopulateSelfReferencingType() {
+      WildstyleGenerator.createObjectGenerator(NestedPojo.class).register();
+      final ObjectGenerator<NestedPojo> objectGenerator = WildstyleGenerator.createObjectGenerator(NestedPojo.class)
+         .setAutoPopulate(true)
+         .register();
+
+      Assert.assertEquals(DefaultFieldPlan.MAX_NESTING_DEPTH, WildstyleGeneratorTests.countNested(objectGenerator.generateValue()));
+
+      // Splitting the object generator does not recurse, and the split values are reproducible.
+      final List<NestedPojo> values = objectGenerator.generateParallel(10, 42, ForkJoinPool.commonPool());
+      final List<NestedPojo> sameSeedValues = objectGenerator.generateParallel(10, 42, ForkJoinPool.commonPool());
+      for (int x = 0; x < values.size(); x++) {
+         Assert.assertEquals(DefaultFieldPlan.MAX_NESTING_DEPTH, WildstyleGeneratorTests.countNested(values.get(x)));
+         Assert.assertEquals(values.get(x).getNext().getExampleString(), sameSeedValues.get(x).getNext().getExampleString());
+      }
+   }
+
+   /**
+    * Test for {@linkplain WildstyleGenerator#createObjectGenerator creating} an {@link ObjectGenerator} which
+    * {@linkplain ObjectGeneratorBuilder#setClonePrototype clones a prototype instance} to create values.
+    */
+   @Test
+   public void createObjectGeneratorClonePrototype() {
+      Assert.assertFalse(WildstyleGenerator.createObjectGenerator(CloneablePojo.class).isClonePrototype());
+
+      final ObjectGenerator<CloneablePojo> objectGenerator = WildstyleGenerator.createObjectGenerator(CloneablePojo.class)
+         .setClonePrototype(true)
+         .mapField(CloneablePojo.CONSTANT_FIELD_NAME, "constantValue")
+         .register();
+
+      final int constructedCount = CloneablePojo.CONSTRUCTED_COUNT.get();
+      objectGenerator.generateBatch(10);
+
+      Assert.assertEquals(constructedCount + 1, CloneablePojo.CONSTRUCTED_COUNT.get());
+   }
+
    /**
     * Test for {@linkplain ObjectGeneratorBuilder#register registering} an {@linkplain ObjectGenerator object generator} with the
     * {@linkplain ObjectGenerator#DEFAULT_NAME default name} and then {@linkplain WildstyleGenerator#getObjectGenerator retrieving} it.
@@ -411,6 +540,108 @@ public class WildstyleGeneratorTests extends BaseTest {
       WildstyleGenerator.generate(ExamplePojo.class, "name");
    }
 
+   /**
+    * Test for {@linkplain ObjectGeneratorBuilder#register registering} an {@linkplain ObjectGenerator object generator} with a name and
+    * then {@linkplain WildstyleGenerator#generateParallel(Class, String, int, long, ForkJoinPool) generating} objects with it in parallel
+    * using a seed.
+    */
+   @Test
+   public void generateParallelName() {
+      final String name = "name";
+
+      WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+         .setName(name)
+         .mapField(ExamplePojo.EXAMPLE_PRIVATE_STRING_FIELD_NAME, new StringValueGenerator())
+         .register();
+
+      final ForkJoinPool pool = new ForkJoinPool(2);
+      try {
+         final List<ExamplePojo> examplePojosA = WildstyleGenerator.generateParallel(ExamplePojo.class, name, 3000, 42, pool);
+         final List<ExamplePojo> examplePojosB = WildstyleGenerator.generateParallel(ExamplePojo.class, name, 3000, 42, pool);
+         final List<ExamplePojo> examplePojosC = WildstyleGenerator.generateParallel(ExamplePojo.class, name, 3000, pool);
+
+         Assert.assertEquals(3000, examplePojosA.size());
+         Assert.assertEquals(3000, examplePojosC.size());
+         for (int x = 0; x < examplePojosA.size(); x++) {
+            Assert.assertEquals(examplePojosA.get(x).getExamplePrivateString(), examplePojosB.get(x).getExamplePrivateString());
+         }
+      }
+      finally {
+         pool.shutdown();
+      }
+   }
+
+   /**
+    * Test for attempting to {@linkplain WildstyleGenerator#generateParallel(Class, String, int, long, ForkJoinPool) generate} objects in
+    * parallel with an {@linkplain ObjectGenerator object generator} that has not been {@linkplain ObjectGeneratorBuilder#register
+    * registered} with a name.
+    */
+   @Test
+   public void generateParallelUnregisteredName() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("Did not find a 'class ar.wildstyle.test.ExamplePojo' value generator with the name 'name'.");
+
+      WildstyleGenerator.generateParallel(ExamplePojo.class, "name", 1, 42, ForkJoinPool.commonPool());
+   }
+
+   /**
+    * Test for {@linkplain ObjectGeneratorBuilder#register registering} and {@linkplain WildstyleGenerator#generate(Class, String)
+    * generating} objects with many {@linkplain ObjectGenerator object generators} from several threads at once.
+    */
+   @Test
+   public void registerAndGenerateConcurrently() {
+      IntStream.range(0, BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT).parallel().forEach(x -> {
+         WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+            .setName("name" + x)
+            .mapField(ExamplePojo.EXAMPLE_PRIVATE_INT_FIELD_NAME, x)
+            .register();
+
+         Assert.assertEquals(x, WildstyleGenerator.generate(ExamplePojo.class, "name" + x).getExamplePrivateInt());
+      });
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         Assert.assertNotNull(WildstyleGenerator.getObjectGenerator(ExamplePojo.class, "name" + x));
+      }
+   }
+
+   /**
+    * Test for getting the {@linkplain WildstyleGenerator#getGeneratorHandle(Class) generator handle} for the
+    * {@linkplain ObjectGenerator#DEFAULT_NAME default name}.
+    */
+   @Test
+   public void getGeneratorHandleDefaultName() {
+      final ObjectGenerator<ExamplePojo> objectGenerator = WildstyleGenerator.createObjectGenerator(ExamplePojo.class)
+         .register();
+
+      final GeneratorHandle<ExamplePojo> generatorHandle = WildstyleGenerator.getGeneratorHandle(ExamplePojo.class);
+      Assert.assertSame(objectGenerator, generatorHandle.getObjectGenerator());
+      Assert.assertSame(generatorHandle, WildstyleGenerator.getGeneratorHandle(ExamplePojo.class, ObjectGenerator.DEFAULT_NAME));
+   }
+
+   /**
+    * Test for getting a {@linkplain WildstyleGenerator#getGeneratorHandle(Class, String) generator handle} for a value type and name with
+    * no registered object generator, which does not add an entry to the registry.
+    */
+   @Test
+   public void getGeneratorHandleUnregistered() {
+      final GeneratorHandle<ExamplePojo> generatorHandle = WildstyleGenerator.getGeneratorHandle(ExamplePojo.class, "name");
+
+      Assert.assertFalse(generatorHandle.isRegistered());
+      Assert.assertNull(WildstyleGenerator.getObjectGenerator(ExamplePojo.class, "name"));
+      Assert.assertEquals(0, WildstyleGenerator.getRegisteredValueTypeCount());
+   }
+
+   /**
+    * Test for attempting to get a {@linkplain WildstyleGenerator#getGeneratorHandle(Class, String) generator handle} with an empty name.
+    */
+   @Test
+   public void getGeneratorHandleEmptyName() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'name' parameter cannot be empty.");
+
+      WildstyleGenerator.getGeneratorHandle(ExamplePojo.class, "");
+   }
+
    /**
     * Test for clearing the registry of {@linkplain ObjectGenerator object generators}.
     */
@@ -425,10 +656,26 @@ public class WildstyleGeneratorTests extends BaseTest {
       WildstyleGenerator.clearRegistry();
 
       Assert.assertNull(WildstyleGenerator.getObjectGenerator(ExamplePojo.class));
+      Assert.assertEquals(0, WildstyleGenerator.getRegisteredValueTypeCount());
 
       this.expectedException.expect(AssertionError.class);
       this.expectedException.expectMessage("Did not find a 'class ar.wildstyle.test.ExamplePojo' value generator with the name 'default'.");
 
       WildstyleGenerator.generate(ExamplePojo.class);
    }
+
+   /**
+    * Returns the number of nested values reachable through the {@code next} field of the given value.
+    *
+    * @pre nestedPojo != null
+    */
+   private static int countNested(NestedPojo nestedPojo) {
+      int count = 0;
+      for (NestedPojo next = nestedPojo.getNext(); next != null; next = next.getNext()) {
+         count++;
+      }
+
+      return count;
+   }
+
 }
@@ -0,0 +1,69 @@
+package ar.wildstyle.test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code CloneablePojo} is an example of a POJO with a public {@code clone} method, which counts the number of times it is constructed.
+ */
+public class CloneablePojo implements Cloneable {
+
+   /**
+    * The name of the {@code constantField} field.
+    */
+   public static final String CONSTANT_FIELD_NAME = "constantField";
+
+   /**
+    * The name of the {@code generatedField} field.
+    */
+   public static final String GENERATED_FIELD_NAME = "generatedField";
+
+   /**
+    * The number of {@code CloneablePojo} instances which have been constructed, rather than cloned.
+    */
+   public static final AtomicInteger CONSTRUCTED_COUNT = new AtomicInteger();
+
+   /**
+    * Creates a new {@code CloneablePojo}.
+    */
+   public CloneablePojo() {
+      CloneablePojo.CONSTRUCTED_COUNT.incrementAndGet();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public CloneablePojo clone() {
+      try {
+         return (CloneablePojo)super.clone();
+      }
+      catch (final CloneNotSupportedException e) {
+         throw new AssertionError(e);
+      }
+   }
+
+   /**
+    * Returns the value of the {@code constantField} field.
+    */
+   public String getConstantField() {
+      return this.constantField;
+   }
+
+   /**
+    * Returns the value of the {@code generatedField} field.
+    */
+   public int getGeneratedField() {
+      return this.generatedField;
+   }
+
+   /**
+    * A field which is mapped to a constant value.
+    */
+   private String constantField;
+
+   /**
+    * A field which is mapped to a value generator.
+    */
+   private int generatedField;
+
+}
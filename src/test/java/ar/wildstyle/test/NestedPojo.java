@@ -0,0 +1,73 @@
+package ar.wildstyle.test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@code NestedPojo} is an example of a POJO with fields of collection and JDK value types, and a field of its own type.
+ */
+public class NestedPojo {
+
+   /**
+    * Returns the value of the {@code exampleList} field.
+    */
+   public List<String> getExampleList() {
+      return this.exampleList;
+   }
+
+   /**
+    * Returns the value of the {@code exampleBigDecimal} field.
+    */
+   public BigDecimal getExampleBigDecimal() {
+      return this.exampleBigDecimal;
+   }
+
+   /**
+    * Returns the value of the {@code exampleUuid} field.
+    */
+   public UUID getExampleUuid() {
+      return this.exampleUuid;
+   }
+
+   /**
+    * Returns the value of the {@code exampleString} field.
+    */
+   public String getExampleString() {
+      return this.exampleString;
+   }
+
+   /**
+    * Returns the value of the {@code next} field.
+    */
+   public NestedPojo getNext() {
+      return this.next;
+   }
+
+   /**
+    * A field of a collection type, which is initialized when the POJO is constructed.
+    */
+   private List<String> exampleList = new ArrayList<>();
+
+   /**
+    * A field of a JDK value type.
+    */
+   private BigDecimal exampleBigDecimal = BigDecimal.ONE;
+
+   /**
+    * A field of a JDK value type.
+    */
+   private UUID exampleUuid;
+
+   /**
+    * A field with a default value generator.
+    */
+   private String exampleString;
+
+   /**
+    * A field of the POJO's own type.
+    */
+   private NestedPojo next;
+
+}
@@ -0,0 +1,42 @@
+package ar.wildstyle.test;
+
+/**
+ * {@code StaticFieldPojo} is an example of a POJO with {@code static} fields.
+ */
+public class StaticFieldPojo {
+
+   /**
+    * The name of the {@code exampleStaticString} field.
+    */
+   public static final String EXAMPLE_STATIC_STRING_FIELD_NAME = "exampleStaticString";
+
+   /**
+    * The name of the {@code exampleStaticInt} field.
+    */
+   public static final String EXAMPLE_STATIC_INT_FIELD_NAME = "exampleStaticInt";
+
+   /**
+    * Returns the value of the {@code exampleStaticString} field.
+    */
+   public static String getExampleStaticString() {
+      return StaticFieldPojo.exampleStaticString;
+   }
+
+   /**
+    * Returns the value of the {@code exampleStaticInt} field.
+    */
+   public static int getExampleStaticInt() {
+      return StaticFieldPojo.exampleStaticInt;
+   }
+
+   /**
+    * A static field of a non-primitive type.
+    */
+   private static String exampleStaticString;
+
+   /**
+    * A static field of a primitive type.
+    */
+   private static int exampleStaticInt;
+
+}
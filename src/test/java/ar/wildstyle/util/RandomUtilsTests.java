@@ -0,0 +1,122 @@
+package ar.wildstyle.util;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ar.wildstyle.test.BaseTest;
+
+/**
+ * {@code RandomUtilsTests} contains tests for the {@link RandomUtils} class.
+ *
+ * @author Adam Rosini
+ */
+public class RandomUtilsTests extends BaseTest {
+
+   /**
+    * Test for {@link RandomUtils#current} with a random instance.
+    */
+   @Test
+   public void current() {
+      final Random random = new Random();
+      Assert.assertSame(random, RandomUtils.current(random));
+   }
+
+   /**
+    * Test for {@link RandomUtils#current} without a random instance.
+    */
+   @Test
+   public void currentNullRandom() {
+      Assert.assertSame(ThreadLocalRandom.current(), RandomUtils.current(null));
+   }
+
+   /**
+    * Test for {@link RandomUtils#nextInt} with a variety of ranges.
+    */
+   @Test
+   public void nextInt() {
+      this.testNextInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+      this.testNextInt(Integer.MIN_VALUE, 0);
+      this.testNextInt(-1, Integer.MAX_VALUE);
+      this.testNextInt(0, Integer.MAX_VALUE);
+      this.testNextInt(-10, 10);
+      this.testNextInt(0, 0);
+      this.testNextInt(Integer.MAX_VALUE, Integer.MAX_VALUE);
+      this.testNextInt(Integer.MIN_VALUE, Integer.MIN_VALUE);
+   }
+
+   /**
+    * Test for {@link RandomUtils#nextLong} with a variety of ranges.
+    */
+   @Test
+   public void nextLong() {
+      this.testNextLong(Long.MIN_VALUE, Long.MAX_VALUE);
+      this.testNextLong(Long.MIN_VALUE, 0);
+      this.testNextLong(-1, Long.MAX_VALUE);
+      this.testNextLong(Long.MIN_VALUE / 2, Long.MAX_VALUE / 2 + 2);
+      this.testNextLong(0, Long.MAX_VALUE);
+      this.testNextLong(0, 1023);
+      this.testNextLong(-10, 10);
+      this.testNextLong(0, 0);
+      this.testNextLong(Long.MAX_VALUE, Long.MAX_VALUE);
+      this.testNextLong(Long.MIN_VALUE, Long.MIN_VALUE);
+   }
+
+   /**
+    * Test that {@link RandomUtils#nextLong} generates every value in a small range a similar number of times.
+    */
+   @Test
+   public void nextLongUniform() {
+      final Random random = new Random(42);
+      final int[] counts = new int[3];
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT * 30; x++) {
+         counts[(int)RandomUtils.nextLong(random, 0, 2)]++;
+      }
+
+      for (final int count : counts) {
+         Assert.assertEquals(BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT * 10, count, BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT);
+      }
+   }
+
+   /**
+    * Test for attempting to invoke {@link RandomUtils#nextLong} with a {@code min} parameter that is greater than the {@code max}
+    * parameter.
+    */
+   @Test
+   public void nextLongMinGreaterThanMax() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'min' parameter must be less than or equal to the 'max' parameter.");
+
+      RandomUtils.nextLong(new Random(), 1, 0);
+   }
+
+   /**
+    * Tests that {@link RandomUtils#nextInt} generates values between the given {@code min} and the given {@code max} (inclusive).
+    */
+   private void testNextInt(int min, int max) {
+      final Random random = new Random();
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final int value = RandomUtils.nextInt(random, min, max);
+         Assert.assertTrue(value >= min);
+         Assert.assertTrue(value <= max);
+      }
+   }
+
+   /**
+    * Tests that {@link RandomUtils#nextLong} generates values between the given {@code min} and the given {@code max} (inclusive).
+    */
+   private void testNextLong(long min, long max) {
+      final Random random = new Random();
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final long value = RandomUtils.nextLong(random, min, max);
+         Assert.assertTrue(value >= min);
+         Assert.assertTrue(value <= max);
+      }
+   }
+
+}
@@ -1,15 +1,19 @@
 package ar.wildstyle.util;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import ar.wildstyle.test.BaseTest;
+import ar.wildstyle.test.CloneablePojo;
 import ar.wildstyle.test.ExamplePojo;
 import ar.wildstyle.test.ExamplePojoParent;
+import ar.wildstyle.test.StaticFieldPojo;
 import ar.wildstyle.valuegenerator.IntegerValueGenerator;
 import ar.wildstyle.valuegenerator.StringValueGenerator;
 import ar.wildstyle.valuegenerator.ValueGenerator;
@@ -87,6 +91,15 @@ public class ReflectionUtilsTests extends BaseTest {
       Assert.assertFalse(ReflectionUtils.isCompatible(this.primitiveIntField, new StringValueGenerator(1)));
    }
 
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#isCompatible(Field, ValueGenerator)} where the fields holds a primitive value
+    * and the value generator generates values of the field's type, but can generate nulls.
+    */
+   @Test
+   public void isCompatibleFieldAndValueGeneratorPrimitiveFieldNullableValueGenerator() {
+      Assert.assertFalse(ReflectionUtils.isCompatible(this.primitiveIntField, new IntegerValueGenerator(50)));
+   }
+
    /**
     * Test for attempting to invoke {@link ReflectionUtils#isCompatible(Field, ValueGenerator)} with a null field parameter.
     */
@@ -313,6 +326,203 @@ public class ReflectionUtilsTests extends BaseTest {
       ReflectionUtils.setField(this.object, this.stringField, 1);
    }
 
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#findSetter}.
+    */
+   @Test
+   public void findSetter() throws Throwable {
+      ReflectionUtils.findSetter(this.stringField).invokeExact((Object)this.object, (Object)this.stringValue);
+
+      Assert.assertEquals(this.stringValue, this.object.getExamplePrivateString());
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#findSetter} with a {@code field} parameter that refers to a primitive type.
+    */
+   @Test
+   public void findSetterPrimitiveField() throws Throwable {
+      ReflectionUtils.findSetter(this.primitiveIntField).invokeExact((Object)this.object, (Object)this.integerValue);
+
+      Assert.assertEquals(this.integerValue.intValue(), this.object.getExamplePrivateInt());
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#findPrimitiveSetter}.
+    */
+   @Test
+   public void findPrimitiveSetter() throws Throwable {
+      ReflectionUtils.findPrimitiveSetter(this.primitiveIntField).invokeExact((Object)this.object, this.integerValue.intValue());
+
+      Assert.assertEquals(this.integerValue.intValue(), this.object.getExamplePrivateInt());
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#findSetter} and {@link ReflectionUtils#findPrimitiveSetter} with {@code field}
+    * parameters that refer to {@code static} fields, whose setters ignore the object.
+    */
+   @Test
+   public void findSetterStaticField() throws Throwable {
+      ReflectionUtils.findSetter(StaticFieldPojo.class.getDeclaredField(StaticFieldPojo.EXAMPLE_STATIC_STRING_FIELD_NAME))
+         .invokeExact((Object)null, (Object)this.stringValue);
+      ReflectionUtils.findPrimitiveSetter(StaticFieldPojo.class.getDeclaredField(StaticFieldPojo.EXAMPLE_STATIC_INT_FIELD_NAME))
+         .invokeExact((Object)new StaticFieldPojo(), this.integerValue.intValue());
+
+      Assert.assertEquals(this.stringValue, StaticFieldPojo.getExampleStaticString());
+      Assert.assertEquals(this.integerValue.intValue(), StaticFieldPojo.getExampleStaticInt());
+   }
+
+   /**
+    * Test for attempting to invoke {@link ReflectionUtils#findPrimitiveSetter} with a field parameter that does not refer to a primitive
+    * type.
+    */
+   @Test
+   public void findPrimitiveSetterNonPrimitiveField() {
+      this.expectedException.expect(AssertionError.class);
+
+      ReflectionUtils.findPrimitiveSetter(this.stringField);
+   }
+
+   /**
+    * Test for attempting to invoke {@link ReflectionUtils#findSetter} with a null field parameter.
+    */
+   @Test
+   public void findSetterNullField() {
+      this.expectedException.expect(AssertionError.class);
+
+      ReflectionUtils.findSetter(null);
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#findConstructor}.
+    */
+   @Test
+   public void findConstructor() throws Exception {
+      Assert.assertEquals(ExamplePojo.class.getConstructor(String.class),
+         ReflectionUtils.findConstructor(ExamplePojo.class, Arrays.asList(this.stringValue)));
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#findConstructor} using value generators as constructor arguments.
+    */
+   @Test
+   public void findConstructorUsingValueGeneratorArguments() throws Exception {
+      Assert.assertEquals(ExamplePojo.class.getConstructor(ExamplePojo.class, Integer.class, int.class),
+         ReflectionUtils.findConstructor(ExamplePojo.class, Arrays.asList(null, this.integerValueGenerator, this.integerValueGenerator)));
+   }
+
+   /**
+    * Test for attempting to invoke {@link ReflectionUtils#findConstructor} using an ambiguous argument.
+    */
+   @Test
+   public void findConstructorUsingAmbiguousArgument() {
+      this.expectedException.expect(IllegalArgumentException.class);
+      this.expectedException.expectMessage("Could not construct an instance of 'class ar.wildstyle.test.ExamplePojo' " +
+         "using the resolved list of constructor arguments: [" + this.object + ", 1]");
+
+      ReflectionUtils.findConstructor(ExamplePojo.class, Arrays.asList(this.object, 1));
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#findInstantiator}.
+    */
+   @Test
+   public void findInstantiator() throws Throwable {
+      final Object examplePojo = (Object)ReflectionUtils.findInstantiator(ExamplePojo.class.getConstructor(String.class))
+         .invokeExact(new Object[] { this.stringValue });
+
+      Assert.assertEquals(this.stringValue, ((ExamplePojo)examplePojo).getExamplePrivateString());
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#getFields(Class)}.
+    */
+   @Test
+   public void getFields() throws Exception {
+      final List<Field> fields = ReflectionUtils.getFields(ExamplePojo.class);
+
+      final List<Field> expectedFields = new ArrayList<>();
+      expectedFields.addAll(Arrays.asList(ExamplePojoParent.class.getDeclaredFields()));
+      expectedFields.addAll(Arrays.asList(ExamplePojo.class.getDeclaredFields()));
+
+      Assert.assertEquals(expectedFields, fields);
+      Assert.assertSame(fields, ReflectionUtils.getFields(ExamplePojo.class));
+   }
+
+   /**
+    * Test for invoking {@link ReflectionUtils#getFields(Class)} with a type and its parent, whose fields come first in the type's fields.
+    */
+   @Test
+   public void getFieldsParent() {
+      final List<Field> parentFields = ReflectionUtils.getFields(ExamplePojoParent.class);
+      final List<Field> fields = ReflectionUtils.getFields(ExamplePojo.class);
+
+      Assert.assertEquals(parentFields, fields.subList(0, parentFields.size()));
+      Assert.assertEquals(Arrays.asList(ExamplePojo.class.getDeclaredFields()), fields.subList(parentFields.size(), fields.size()));
+   }
+
+   /**
+    * Test for attempting to invoke {@link ReflectionUtils#getFields(Class)} with a null type.
+    */
+   @Test
+   public void getFieldsNullType() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'type' parameter cannot be null.");
+
+      ReflectionUtils.getFields(null);
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#getFields(Class, String)} with a field name declared by both a type and its
+    * parent.
+    */
+   @Test
+   public void getFieldsByName() throws Exception {
+      final List<Field> fields = ReflectionUtils.getFields(ExamplePojo.class, ExamplePojo.EXAMPLE_DUPLICATE_PRIVATE_STRING_FIELD_NAME);
+
+      Assert.assertEquals(Arrays.asList(ExamplePojo.class.getDeclaredField(ExamplePojo.EXAMPLE_DUPLICATE_PRIVATE_STRING_FIELD_NAME),
+         ExamplePojoParent.class.getDeclaredField(ExamplePojo.EXAMPLE_DUPLICATE_PRIVATE_STRING_FIELD_NAME)), fields);
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#getFields(Class, String)} with a field name that is not declared by a type or
+    * its parents.
+    */
+   @Test
+   public void getFieldsByNameNonExistent() {
+      Assert.assertTrue(ReflectionUtils.getFields(ExamplePojo.class, "nonExistentField").isEmpty());
+   }
+
+   /**
+    * Test for attempting to invoke {@link ReflectionUtils#getFields(Class, String)} with an empty field name.
+    */
+   @Test
+   public void getFieldsByNameEmptyFieldName() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'fieldName' parameter cannot be empty.");
+
+      ReflectionUtils.getFields(ExamplePojo.class, "");
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#findCloner} with a type that has a public {@code clone} method.
+    */
+   @Test
+   public void findCloner() throws Throwable {
+      final CloneablePojo cloneablePojo = new CloneablePojo();
+      final Object clone = (Object)ReflectionUtils.findCloner(CloneablePojo.class).invokeExact((Object)cloneablePojo);
+
+      Assert.assertTrue(clone instanceof CloneablePojo);
+      Assert.assertNotSame(cloneablePojo, clone);
+   }
+
+   /**
+    * Test for a valid invocation of {@link ReflectionUtils#findCloner} with a type that does not have a public {@code clone} method.
+    */
+   @Test
+   public void findClonerNotCloneable() {
+      Assert.assertNull(ReflectionUtils.findCloner(ExamplePojo.class));
+   }
+
    /**
     * Test for a valid invocation of {@link ReflectionUtils#newInstance}.
     */
@@ -407,16 +617,13 @@ public class ReflectionUtilsTests extends BaseTest {
    /**
     * Test for a valid invocation of {@link ReflectionUtils#newInstance} using a null value as an argument where the resolution should not
     * be ambiguous due to only a single constructor existing that can handle the given null value.
-    *
-    * TODO: Figure out how to fix this. The correct constructor should be found, but it is not.
     */
    @Test
    public void newInstanceUsingNonAmbigiousNullArgument() {
-      this.expectedException.expect(IllegalArgumentException.class);
-      this.expectedException.expectMessage("Could not construct an instance of 'class ar.wildstyle.test.ExamplePojo' " +
-         "using the resolved list of constructor arguments: [" + this.object + ", null]");
+      final ExamplePojo examplePojo = ReflectionUtils.newInstance(ExamplePojo.class, Arrays.asList(this.object, null));
 
-      ReflectionUtils.newInstance(ExamplePojo.class, Arrays.asList(this.object, null));
+      Assert.assertEquals(this.object, examplePojo.getExamplePrivateObject());
+      Assert.assertNull(examplePojo.getExamplePrivateInteger());
    }
 
    /**
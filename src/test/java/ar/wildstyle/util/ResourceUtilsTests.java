@@ -0,0 +1,75 @@
+package ar.wildstyle.util;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ar.wildstyle.test.BaseTest;
+import ar.wildstyle.valuegenerator.FirstNameValueGenerator;
+
+/**
+ * {@code ResourceUtilsTests} contains tests for the {@link ResourceUtils} class.
+ *
+ * @author Adam Rosini
+ */
+public class ResourceUtilsTests extends BaseTest {
+
+   /**
+    * Test for {@link ResourceUtils#readDistinctLines} with an existing resource.
+    */
+   @Test
+   public void readDistinctLines() throws IOException {
+      final List<String> lines =
+         ResourceUtils.readDistinctLines(ResourceUtilsTests.class.getClassLoader(), FirstNameValueGenerator.FIRST_NAMES_FILE);
+
+      Assert.assertFalse(lines.isEmpty());
+      Assert.assertEquals(lines.size(), lines.stream().distinct().count());
+      Assert.assertTrue(lines.stream().allMatch(line -> !line.isEmpty()));
+   }
+
+   /**
+    * Test for {@link ResourceUtils#readDistinctLines} returning an unmodifiable list.
+    */
+   @Test
+   public void readDistinctLinesUnmodifiable() throws IOException {
+      this.expectedException.expect(UnsupportedOperationException.class);
+
+      ResourceUtils.readDistinctLines(ResourceUtilsTests.class.getClassLoader(), FirstNameValueGenerator.FIRST_NAMES_FILE).set(0, "");
+   }
+
+   /**
+    * Test for attempting to use {@link ResourceUtils#readDistinctLines} with a resource that does not exist.
+    */
+   @Test
+   public void readDistinctLinesMissingResource() throws IOException {
+      this.expectedException.expect(IOException.class);
+      this.expectedException.expectMessage("Could not find the 'missing.txt' resource.");
+
+      ResourceUtils.readDistinctLines(ResourceUtilsTests.class.getClassLoader(), "missing.txt");
+   }
+
+   /**
+    * Test for attempting to use {@link ResourceUtils#readDistinctLines} with a null class loader.
+    */
+   @Test
+   public void readDistinctLinesNullClassLoader() throws IOException {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'classLoader' parameter cannot be null.");
+
+      ResourceUtils.readDistinctLines(null, FirstNameValueGenerator.FIRST_NAMES_FILE);
+   }
+
+   /**
+    * Test for attempting to use {@link ResourceUtils#readDistinctLines} with an empty resource name.
+    */
+   @Test
+   public void readDistinctLinesEmptyResourceName() throws IOException {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'resourceName' parameter cannot be empty.");
+
+      ResourceUtils.readDistinctLines(ResourceUtilsTests.class.getClassLoader(), "");
+   }
+
+}
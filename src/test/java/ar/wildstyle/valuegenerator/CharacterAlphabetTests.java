@@ -0,0 +1,158 @@
+package ar.wildstyle.valuegenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ar.wildstyle.test.BaseTest;
+
+/**
+ * {@code CharacterAlphabetTests} contains tests for the {@link CharacterAlphabet} class.
+ *
+ * @author Adam Rosini
+ */
+public class CharacterAlphabetTests extends BaseTest {
+
+   /**
+    * Test for {@link CharacterAlphabet#nextChar}.
+    */
+   @Test
+   public void nextChar() {
+      final List<Character> characters = Arrays.asList('a', 'b', 'c');
+      final CharacterAlphabet alphabet = new CharacterAlphabet(characters);
+      final Random random = new Random();
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         Assert.assertTrue(characters.contains(alphabet.nextChar(random)));
+      }
+   }
+
+   /**
+    * Test for {@link CharacterAlphabet#nextString} with an alphabet whose size is a power of two.
+    */
+   @Test
+   public void nextStringPowerOfTwoSize() {
+      this.testNextString(Arrays.asList('a', 'b', 'c', 'd'));
+   }
+
+   /**
+    * Test for {@link CharacterAlphabet#nextString} with an alphabet whose size is not a power of two.
+    */
+   @Test
+   public void nextStringNonPowerOfTwoSize() {
+      this.testNextString(StringValueGenerator.DEFAULT_ALLOWABLE_CHARACTERS);
+   }
+
+   /**
+    * Test for {@link CharacterAlphabet#nextString} with an alphabet containing a single character.
+    */
+   @Test
+   public void nextStringSingleCharacter() {
+      Assert.assertEquals("zzzzz", new CharacterAlphabet(Arrays.asList('z')).nextString(new Random(), 5));
+   }
+
+   /**
+    * Test for {@link CharacterAlphabet#nextString} with an alphabet containing Latin-1 characters outside of the ASCII range.
+    */
+   @Test
+   public void nextStringLatin1Characters() {
+      this.testNextString(Arrays.asList('\u00e9', '\u00ff', 'a'));
+   }
+
+   /**
+    * Test for {@link CharacterAlphabet#nextString} with an alphabet containing characters outside of the Latin-1 range.
+    */
+   @Test
+   public void nextStringNonLatin1Characters() {
+      this.testNextString(Arrays.asList('\u4e2d', '\u00e9', 'a', '\uffff', '\u0100'));
+   }
+
+   /**
+    * Test for {@link CharacterAlphabet#nextString} with a length of 0.
+    */
+   @Test
+   public void nextStringEmpty() {
+      Assert.assertEquals("", new CharacterAlphabet(Arrays.asList('a', 'b', 'c')).nextString(new Random(), 0));
+   }
+
+   /**
+    * Test that {@link CharacterAlphabet#nextString} selects characters using the high-order bits of each random {@code long} first.
+    */
+   @Test
+   public void nextStringHighOrderBitsFirst() {
+      final Random random = new Random() {
+
+         @Override
+         public long nextLong() {
+            return 0xC000000000000001L;
+         }
+
+      };
+
+      Assert.assertEquals("d", new CharacterAlphabet(Arrays.asList('a', 'b', 'c', 'd')).nextString(random, 1));
+      Assert.assertEquals("bba", new CharacterAlphabet(Arrays.asList('a', 'b')).nextString(random, 3));
+   }
+
+   /**
+    * Test that {@link CharacterAlphabet#nextString} selects every character in an alphabet whose size is not a power of two equally often.
+    */
+   @Test
+   public void nextStringUniform() {
+      final List<Character> characters = Arrays.asList('a', 'b', 'c', 'd', 'e');
+      final String value = new CharacterAlphabet(characters).nextString(new Random(), 100000);
+
+      final int[] counts = new int[characters.size()];
+      for (int x = 0; x < value.length(); x++) {
+         counts[characters.indexOf(value.charAt(x))]++;
+      }
+
+      for (final int count : counts) {
+         Assert.assertTrue(Math.abs(count - 20000) < 1000);
+      }
+   }
+
+   /**
+    * Test for attempting to create a {@link CharacterAlphabet} with a null list of characters.
+    */
+   @Test
+   public void characterAlphabetNullCharacters() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'characters' parameter cannot be null.");
+
+      new CharacterAlphabet(null);
+   }
+
+   /**
+    * Test for attempting to create a {@link CharacterAlphabet} with an empty list of characters.
+    */
+   @Test
+   public void characterAlphabetEmptyCharacters() {
+      this.expectedException.expect(AssertionError.class);
+      this.expectedException.expectMessage("The 'characters' parameter cannot be empty.");
+
+      new CharacterAlphabet(new ArrayList<Character>());
+   }
+
+   /**
+    * Generates strings of various lengths using an alphabet of the given characters, and checks that they have the requested length and
+    * only contain the given characters.
+    */
+   private void testNextString(List<Character> characters) {
+      final CharacterAlphabet alphabet = new CharacterAlphabet(characters);
+      final Random random = new Random();
+
+      for (int length = 0; length < 100; length++) {
+         final String value = alphabet.nextString(random, length);
+         Assert.assertEquals(length, value.length());
+
+         for (int x = 0; x < length; x++) {
+            Assert.assertTrue(characters.contains(value.charAt(x)));
+         }
+      }
+   }
+
+}
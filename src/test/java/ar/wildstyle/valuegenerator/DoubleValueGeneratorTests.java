@@ -54,6 +54,28 @@ public class DoubleValueGeneratorTests extends BaseTest {
       this.testValueRange(Double.MAX_VALUE / 2, Double.MAX_VALUE);
    }
 
+   /**
+    * Test for invoking {@link DoubleValueGenerator#generateValue} using a {@link DoubleValueGenerator} which was created with the widest
+    * possible value range, which should generate finite values spread across the whole range.
+    */
+   @Test
+   public void generateValueWidestRange() {
+      final DoubleValueGenerator doubleValueGenerator = new DoubleValueGenerator(-Double.MAX_VALUE, Double.MAX_VALUE);
+
+      int negativeValues = 0;
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final Double value = doubleValueGenerator.generateValue();
+         Assert.assertFalse(value.isInfinite() || value.isNaN());
+
+         if (value < 0) {
+            negativeValues++;
+         }
+      }
+
+      Assert.assertTrue(negativeValues > BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT / 4);
+      Assert.assertTrue(negativeValues < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT * 3 / 4);
+   }
+
    /**
     * Test for invoking {@link DoubleValueGenerator#generateValue} using a {@link DoubleValueGenerator} which was created with a null
     * chance.
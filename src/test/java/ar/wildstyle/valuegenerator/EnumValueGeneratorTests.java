@@ -1,7 +1,12 @@
 package ar.wildstyle.valuegenerator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -86,6 +91,57 @@ public class EnumValueGeneratorTests extends BaseTest {
       new EnumValueGenerator<>(EmptyEnum.class, false);
    }
 
+   /**
+    * Test for invoking {@link EnumValueGenerator#generateValue} with {@linkplain EnumValueGenerator#split split} enum value generators
+    * that use the same seed, where enum values are hashed between the two. Enum values are selected by their ordinal, so the generated
+    * values do not depend on identity hash codes.
+    */
+   @Test
+   public void generateValueSplitSameSeed() {
+      final long seed = 42;
+
+      final ValueGenerator<ExampleHashedEnum> enumValueGenerator1 =
+         new EnumValueGenerator<>(ExampleHashedEnum.class, false).split(new SplittableRandom(seed));
+      final List<ExampleHashedEnum> values1 = new ArrayList<>();
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         values1.add(enumValueGenerator1.generateValue());
+      }
+
+      // Change the identity hash code state, and the hash based order of a set of the enum values.
+      final Set<Object> hashedObjects = new HashSet<>();
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         hashedObjects.add(new Object());
+      }
+      hashedObjects.addAll(Arrays.asList(ExampleHashedEnum.values()));
+
+      final ValueGenerator<ExampleHashedEnum> enumValueGenerator2 =
+         new EnumValueGenerator<>(ExampleHashedEnum.class, false).split(new SplittableRandom(seed));
+      final Random random = new Random(new SplittableRandom(seed).nextLong());
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final ExampleHashedEnum value = enumValueGenerator2.generateValue();
+
+         Assert.assertEquals(values1.get(x), value);
+         Assert.assertEquals(ExampleHashedEnum.values()[random.nextInt(ExampleHashedEnum.values().length)], value);
+      }
+   }
+
+   /**
+    * Test for invoking {@link EnumValueGenerator#characteristics}.
+    */
+   @Test
+   public void characteristics() {
+      Assert.assertEquals(ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC,
+         new EnumValueGenerator<>(ExamplePojoEnum.class, false).characteristics());
+   }
+
+   /**
+    * {@code ExampleHashedEnum} is an enum type with enough values that their hash based order is unlikely to match their ordinal order.
+    */
+   private enum ExampleHashedEnum {
+      VALUE_0, VALUE_1, VALUE_2, VALUE_3, VALUE_4, VALUE_5, VALUE_6, VALUE_7, VALUE_8, VALUE_9, VALUE_10, VALUE_11, VALUE_12, VALUE_13,
+      VALUE_14, VALUE_15
+   }
+
    /**
     * {@code EmptyEnum} is an enum type that does not contain any values.
     */
@@ -53,6 +53,28 @@ public class FloatValueGeneratorTests extends BaseTest {
       this.testValueRange(Float.MAX_VALUE / 2, Float.MAX_VALUE);
    }
 
+   /**
+    * Test for invoking {@link FloatValueGenerator#generateValue} using a {@link FloatValueGenerator} which was created with the widest
+    * possible value range, which should generate finite values spread across the whole range.
+    */
+   @Test
+   public void generateValueWidestRange() {
+      final FloatValueGenerator floatValueGenerator = new FloatValueGenerator(-Float.MAX_VALUE, Float.MAX_VALUE);
+
+      int negativeValues = 0;
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final Float value = floatValueGenerator.generateValue();
+         Assert.assertFalse(value.isInfinite() || value.isNaN());
+
+         if (value < 0) {
+            negativeValues++;
+         }
+      }
+
+      Assert.assertTrue(negativeValues > BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT / 4);
+      Assert.assertTrue(negativeValues < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT * 3 / 4);
+   }
+
    /**
     * Test for invoking {@link FloatValueGenerator#generateValue} using a {@link FloatValueGenerator} which was created with a null chance.
     */
@@ -1,5 +1,9 @@
 package ar.wildstyle.valuegenerator;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -27,6 +31,106 @@ public class IntegerValueGeneratorTests extends BaseTest {
       }
    }
 
+   /**
+    * Test for invoking {@link IntegerValueGenerator#generateInt} using a {@link IntegerValueGenerator} which was created with a value
+    * range and a null chance.
+    */
+   @Test
+   public void generateInt() {
+      final IntegerValueGenerator integerValueGenerator = new IntegerValueGenerator(-10, 10, 100);
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final int value = integerValueGenerator.generateInt();
+         Assert.assertTrue(value >= -10);
+         Assert.assertTrue(value <= 10);
+      }
+   }
+
+   /**
+    * Test for invoking {@link IntegerValueGenerator#generateValue} using a {@link IntegerValueGenerator} which was created with unique
+    * selections.
+    */
+   @Test
+   public void generateValueUniqueSelections() {
+      final IntegerValueGenerator integerValueGenerator = new IntegerValueGenerator(-10, 10, 0, true);
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final Set<Integer> usedValues = new HashSet<>();
+
+         for (int i = -10; i <= 10; i++) {
+            final Integer value = integerValueGenerator.generateValue();
+
+            Assert.assertTrue(value >= -10);
+            Assert.assertTrue(value <= 10);
+            Assert.assertTrue(usedValues.add(value));
+         }
+      }
+   }
+
+   /**
+    * Test for invoking {@link IntegerValueGenerator#generateInt} using a {@link IntegerValueGenerator} which was created with unique
+    * selections over the widest possible range.
+    */
+   @Test
+   public void generateIntUniqueSelectionsWidestRange() {
+      final IntegerValueGenerator integerValueGenerator = new IntegerValueGenerator(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, true);
+
+      final Set<Integer> usedValues = new HashSet<>();
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         Assert.assertTrue(usedValues.add(integerValueGenerator.generateInt()));
+      }
+   }
+
+   /**
+    * Test for {@linkplain IntegerValueGenerator#split splitting} a {@link IntegerValueGenerator} which was created with unique selections,
+    * which returns the same value generator so that values are not repeated.
+    */
+   @Test
+   public void splitUniqueSelections() {
+      final IntegerValueGenerator integerValueGenerator = new IntegerValueGenerator(-10, 10, 0, true);
+      Assert.assertSame(integerValueGenerator, integerValueGenerator.split(new SplittableRandom(42)));
+   }
+
+   /**
+    * Test for invoking {@link IntegerValueGenerator#characteristics} with a variety of null chances and selection modes.
+    */
+   @Test
+   public void characteristics() {
+      final int characteristics =
+         ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC | ValueGenerator.PRIMITIVE;
+
+      Assert.assertEquals(characteristics, new IntegerValueGenerator(0).characteristics());
+      Assert.assertEquals(characteristics | ValueGenerator.NULLABLE, new IntegerValueGenerator(50).characteristics());
+      Assert.assertEquals(characteristics | ValueGenerator.NULLABLE | ValueGenerator.CONSTANT,
+         new IntegerValueGenerator(100).characteristics());
+      Assert.assertEquals(ValueGenerator.CONCURRENT | ValueGenerator.PRIMITIVE,
+         new IntegerValueGenerator(0, 10, 0, true).characteristics());
+
+      Assert.assertFalse(new IntegerValueGenerator(0).canGenerateNull());
+      Assert.assertTrue(new IntegerValueGenerator(50).canGenerateNull());
+   }
+
+   /**
+    * Test for {@linkplain IntegerValueGenerator#split splitting} a {@link IntegerValueGenerator} with the same seed more than once.
+    */
+   @Test
+   public void split() {
+      final IntegerValueGenerator integerValueGenerator = new IntegerValueGenerator(-10, 10, 50);
+      final IntegerValueGenerator splitIntegerValueGeneratorA = integerValueGenerator.split(new SplittableRandom(42));
+      final IntegerValueGenerator splitIntegerValueGeneratorB = integerValueGenerator.split(new SplittableRandom(42));
+
+      Assert.assertNotSame(integerValueGenerator, splitIntegerValueGeneratorA);
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final Integer value = splitIntegerValueGeneratorA.generateValue();
+         Assert.assertEquals(value, splitIntegerValueGeneratorB.generateValue());
+
+         if (value != null) {
+            Assert.assertTrue(value >= -10);
+            Assert.assertTrue(value <= 10);
+         }
+      }
+   }
+
    /**
     * Test for invoking {@link IntegerValueGenerator#generateValue} using a {@link IntegerValueGenerator} which was created with a value
     * range.
@@ -2,6 +2,10 @@ package ar.wildstyle.valuegenerator;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -42,6 +46,25 @@ public class ListBasedValueGeneratorTests extends BaseTest {
       }
    }
 
+   /**
+    * Test for invoking {@link ListBasedValueGenerator#generateValue} with a {@link ListBasedValueGenerator} which was created with repeat
+    * selections from several threads at once.
+    */
+   @Test
+   public void generateValueRepeatSelectionsConcurrently() {
+      final ListBasedValueGenerator<Integer> listBasedValueGenerator = new ListBasedValueGenerator<>(Integer.class, this.values, true);
+
+      final Map<Integer, Long> valueCounts = IntStream.range(0, BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT * this.values.size())
+         .parallel()
+         .mapToObj(x -> listBasedValueGenerator.generateValue())
+         .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+      Assert.assertEquals(this.values.size(), valueCounts.size());
+      for (final Integer value : this.values) {
+         Assert.assertEquals(Long.valueOf(BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT), valueCounts.get(value));
+      }
+   }
+
    /**
     * Test for invoking {@link ListBasedValueGenerator#generateValue} with a {@link ListBasedValueGenerator} which was created with
     * non-repeating selections.
@@ -62,6 +85,59 @@ public class ListBasedValueGeneratorTests extends BaseTest {
       }
    }
 
+   /**
+    * Test for invoking {@link ListBasedValueGenerator#generateValue} with a {@link ListBasedValueGenerator} which was created with
+    * non-repeating selections from several threads at once.
+    */
+   @Test
+   public void generateValueNonRepeatingSelectionsConcurrently() {
+      final List<Integer> values = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+      final ListBasedValueGenerator<Integer> listBasedValueGenerator = new ListBasedValueGenerator<>(Integer.class, values, false);
+
+      final List<Integer> generatedValues = IntStream.range(0, values.size() * 2)
+         .parallel()
+         .mapToObj(x -> listBasedValueGenerator.generateValue())
+         .filter(value -> value != null)
+         .sorted()
+         .collect(Collectors.toList());
+
+      Assert.assertEquals(values, generatedValues);
+      Assert.assertNull(listBasedValueGenerator.generateValue());
+   }
+
+   /**
+    * Test for invoking {@link ListBasedValueGenerator#generateValue} with a {@link ListBasedValueGenerator} whose list of values is
+    * modified after it was created.
+    */
+   @Test
+   public void generateValueModifiedValues() {
+      final ListBasedValueGenerator<Integer> listBasedValueGenerator = new ListBasedValueGenerator<>(Integer.class, this.values, false);
+      this.values.set(0, 10);
+
+      Assert.assertEquals(Integer.valueOf(0), listBasedValueGenerator.generateValue());
+   }
+
+   /**
+    * Test for invoking {@link ListBasedValueGenerator#characteristics} with repeating and non-repeating selections.
+    */
+   @Test
+   public void characteristics() {
+      Assert.assertEquals(ValueGenerator.CONCURRENT, new ListBasedValueGenerator<>(Integer.class, this.values, true).characteristics());
+      Assert.assertEquals(ValueGenerator.CONCURRENT | ValueGenerator.NULLABLE,
+         new ListBasedValueGenerator<>(Integer.class, this.values, false).characteristics());
+   }
+
+   /**
+    * Test for invoking {@link ListBasedValueGenerator#characteristics} with repeating selections and values that contain {@code null}.
+    */
+   @Test
+   public void characteristicsNullValue() {
+      this.values.add(null);
+
+      Assert.assertEquals(ValueGenerator.CONCURRENT | ValueGenerator.NULLABLE,
+         new ListBasedValueGenerator<>(Integer.class, this.values, true).characteristics());
+   }
+
    /**
     * Test for invoking {@link ListBasedValueGenerator#getValueType} with a {@link ListBasedValueGenerator} which was created to generate
     * {@link Integer} values.
@@ -1,5 +1,9 @@
 package ar.wildstyle.valuegenerator;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -92,6 +96,69 @@ public class LongValueGeneratorTests extends BaseTest {
       this.testValueRanges(100);
    }
 
+   /**
+    * Test for invoking {@link LongValueGenerator#generateValue} using a {@link LongValueGenerator} which was created with unique
+    * selections.
+    */
+   @Test
+   public void generateValueUniqueSelections() {
+      final LongValueGenerator longValueGenerator = new LongValueGenerator(-10, 10, 0, true);
+
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         final Set<Long> usedValues = new HashSet<>();
+
+         for (int i = -10; i <= 10; i++) {
+            final Long value = longValueGenerator.generateValue();
+
+            Assert.assertTrue(value >= -10);
+            Assert.assertTrue(value <= 10);
+            Assert.assertTrue(usedValues.add(value));
+         }
+      }
+   }
+
+   /**
+    * Test for invoking {@link LongValueGenerator#generateLong} using a {@link LongValueGenerator} which was created with unique selections
+    * over a range that is too large to enumerate.
+    */
+   @Test
+   public void generateLongUniqueSelectionsHugeRange() {
+      final LongValueGenerator longValueGenerator = new LongValueGenerator(1, 10_000_000_000L, 0, true);
+
+      final Set<Long> usedValues = new HashSet<>();
+      for (int x = 0; x < 100_000; x++) {
+         final long value = longValueGenerator.generateLong();
+
+         Assert.assertTrue(value >= 1);
+         Assert.assertTrue(value <= 10_000_000_000L);
+         Assert.assertTrue(usedValues.add(value));
+      }
+   }
+
+   /**
+    * Test for invoking {@link LongValueGenerator#generateLong} using a {@link LongValueGenerator} which was created with unique selections
+    * over the widest possible range.
+    */
+   @Test
+   public void generateLongUniqueSelectionsWidestRange() {
+      final LongValueGenerator longValueGenerator = new LongValueGenerator(Long.MIN_VALUE, Long.MAX_VALUE, 0, true);
+
+      final Set<Long> usedValues = new HashSet<>();
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         Assert.assertTrue(usedValues.add(longValueGenerator.generateLong()));
+      }
+   }
+
+   /**
+    * Test for {@linkplain LongValueGenerator#split splitting} a {@link LongValueGenerator} which was created with unique selections, which
+    * returns the same value generator so that values are not repeated.
+    */
+   @Test
+   public void splitUniqueSelections() {
+      final LongValueGenerator longValueGenerator = new LongValueGenerator(-10, 10, 0, true);
+      Assert.assertSame(longValueGenerator, longValueGenerator.split(new SplittableRandom(42)));
+   }
+
    /**
     * Test for invoking {@link LongValueGenerator#getValueClass}.
     */
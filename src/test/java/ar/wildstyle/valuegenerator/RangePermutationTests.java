@@ -0,0 +1,106 @@
+package ar.wildstyle.valuegenerator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ar.wildstyle.test.BaseTest;
+
+/**
+ * {@code RangePermutationTests} contains tests for the {@link RangePermutation} class.
+ *
+ * @author Adam Rosini
+ */
+public class RangePermutationTests extends BaseTest {
+
+   /**
+    * Test for {@link RangePermutation#indexAt} with a variety of sizes, checking that every pass through the permutation contains every
+    * index exactly once.
+    */
+   @Test
+   public void indexAt() {
+      for (long size = 1; size <= 300; size++) {
+         final RangePermutation rangePermutation = new RangePermutation(size, size * 31);
+
+         for (long pass = 0; pass < 3; pass++) {
+            final Set<Long> indexes = new HashSet<>();
+            for (long position = pass * size; position < (pass + 1) * size; position++) {
+               final long index = rangePermutation.indexAt(position);
+
+               Assert.assertTrue(index >= 0);
+               Assert.assertTrue(index < size);
+               Assert.assertTrue(indexes.add(index));
+            }
+         }
+      }
+   }
+
+   /**
+    * Test that {@link RangePermutation#indexAt} shuffles the indexes differently on each pass through the permutation.
+    */
+   @Test
+   public void indexAtShuffledEachPass() {
+      final RangePermutation rangePermutation = new RangePermutation(100, 42);
+
+      final List<Long> firstPass = new ArrayList<>();
+      final List<Long> secondPass = new ArrayList<>();
+      for (long position = 0; position < 100; position++) {
+         firstPass.add(rangePermutation.indexAt(position));
+         secondPass.add(rangePermutation.indexAt(position + 100));
+      }
+
+      Assert.assertNotEquals(firstPass, secondPass);
+      Assert.assertNotEquals(LongStream.range(0, 100).boxed().collect(Collectors.toList()), firstPass);
+   }
+
+   /**
+    * Test for {@link RangePermutation#indexAt} with a range that is too large to enumerate.
+    */
+   @Test
+   public void indexAtHugeSize() {
+      final long size = 10_000_000_000L;
+      final RangePermutation rangePermutation = new RangePermutation(size, 42);
+
+      final Set<Long> indexes = new HashSet<>();
+      for (long position = 0; position < 100_000; position++) {
+         final long index = rangePermutation.indexAt(position);
+
+         Assert.assertTrue(index >= 0);
+         Assert.assertTrue(index < size);
+         Assert.assertTrue(indexes.add(index));
+      }
+   }
+
+   /**
+    * Test for {@link RangePermutation#indexAt} with a size of 0, which represents every {@code long} value.
+    */
+   @Test
+   public void indexAtEveryLong() {
+      final RangePermutation rangePermutation = new RangePermutation(0, 42);
+
+      final Set<Long> indexes = new HashSet<>();
+      for (long position = -50_000; position < 50_000; position++) {
+         Assert.assertTrue(indexes.add(rangePermutation.indexAt(position)));
+      }
+   }
+
+   /**
+    * Test for invoking {@link RangePermutation#nextIndex} from several threads at once.
+    */
+   @Test
+   public void nextIndexConcurrently() {
+      final int size = 100_000;
+      final RangePermutation rangePermutation = new RangePermutation(size, 42);
+
+      final long distinctCount = LongStream.range(0, size).parallel().map(x -> rangePermutation.nextIndex()).distinct().count();
+
+      Assert.assertEquals(size, distinctCount);
+   }
+
+}
@@ -1,8 +1,17 @@
 package ar.wildstyle.valuegenerator;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -50,6 +59,45 @@ public class SetBasedValueGeneratorTests extends BaseTest {
       }
    }
 
+   /**
+    * Test for invoking {@link SetBasedValueGenerator#generateValue} with a {@link SetBasedValueGenerator} which was created with unique
+    * selections, checking that the order of the values is shuffled from the very first round.
+    */
+   @Test
+   public void generateValueUniqueSelectionsShuffled() {
+      final Set<Integer> values = IntStream.range(0, 100).boxed().collect(Collectors.toSet());
+      final Set<List<Integer>> rounds = new HashSet<>();
+
+      for (int x = 0; x < 10; x++) {
+         final SetBasedValueGenerator<Integer> setBasedValueGenerator = new SetBasedValueGenerator<>(Integer.class, values, true);
+         rounds.add(IntStream.range(0, values.size()).mapToObj(i -> setBasedValueGenerator.generateValue()).collect(Collectors.toList()));
+      }
+
+      Assert.assertTrue(rounds.size() > 1);
+      for (final List<Integer> round : rounds) {
+         Assert.assertEquals(values, new HashSet<>(round));
+      }
+   }
+
+   /**
+    * Test for invoking {@link SetBasedValueGenerator#generateValue} with a {@link SetBasedValueGenerator} which was created with unique
+    * selections from several threads at once.
+    */
+   @Test
+   public void generateValueUniqueSelectionsConcurrently() {
+      final SetBasedValueGenerator<Integer> setBasedValueGenerator = new SetBasedValueGenerator<>(Integer.class, this.values, true);
+
+      final Map<Integer, Long> valueCounts = IntStream.range(0, BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT * this.values.size())
+         .parallel()
+         .mapToObj(x -> setBasedValueGenerator.generateValue())
+         .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+      Assert.assertEquals(this.values.size(), valueCounts.size());
+      for (final Integer value : this.values) {
+         Assert.assertEquals(Long.valueOf(BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT), valueCounts.get(value));
+      }
+   }
+
    /**
     * Test for invoking {@link SetBasedValueGenerator#generateValue} with a {@link SetBasedValueGenerator} which was created with non-unique
     * selections.
@@ -76,6 +124,31 @@ public class SetBasedValueGeneratorTests extends BaseTest {
       Assert.assertEquals(Integer.class, setBasedValueGenerator.getValueType());
    }
 
+   /**
+    * Test for {@linkplain SetBasedValueGenerator#split splitting} a {@code SetBasedValueGenerator} that does not have unique selections.
+    */
+   @Test
+   public void split() {
+      final SetBasedValueGenerator<Integer> setBasedValueGenerator = new SetBasedValueGenerator<Integer>(Integer.class, this.values, false);
+      final SetBasedValueGenerator<Integer> splitSetBasedValueGenerator = setBasedValueGenerator.split(new SplittableRandom());
+
+      Assert.assertNotSame(setBasedValueGenerator, splitSetBasedValueGenerator);
+      for (int x = 0; x < BaseTest.RANDOM_GENERATION_DEFAULT_RUN_COUNT; x++) {
+         Assert.assertTrue(this.values.contains(splitSetBasedValueGenerator.generateValue()));
+      }
+   }
+
+   /**
+    * Test for {@linkplain SetBasedValueGenerator#split splitting} a {@code SetBasedValueGenerator} that has unique selections, which
+    * returns the same value generator so that values are not repeated.
+    */
+   @Test
+   public void splitUniqueSelections() {
+      final SetBasedValueGenerator<Integer> setBasedValueGenerator = new SetBasedValueGenerator<Integer>(Integer.class, this.values, true);
+
+      Assert.assertSame(setBasedValueGenerator, setBasedValueGenerator.split(new SplittableRandom()));
+   }
+
    /**
     * Test for attempting to create a {@code SetBasedValueGenerator} with a null value type.
     */
@@ -88,6 +161,34 @@ public class SetBasedValueGeneratorTests extends BaseTest {
       new SetBasedValueGenerator<String>(valueType, new HashSet<String>(Arrays.asList("1", "2")), true);
    }
 
+   /**
+    * Test for invoking {@link SetBasedValueGenerator#characteristics} with unique and non-unique selections.
+    */
+   @Test
+   public void characteristics() {
+      Assert.assertEquals(ValueGenerator.STATELESS | ValueGenerator.CONCURRENT,
+         new SetBasedValueGenerator<>(Integer.class, this.values, false).characteristics());
+      Assert.assertEquals(ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC,
+         new SetBasedValueGenerator<>(Integer.class, new TreeSet<>(this.values), false).characteristics());
+      Assert.assertEquals(ValueGenerator.STATELESS | ValueGenerator.CONCURRENT | ValueGenerator.DETERMINISTIC,
+         new SetBasedValueGenerator<>(Integer.class, new LinkedHashSet<>(this.values), false).characteristics());
+      Assert.assertEquals(ValueGenerator.CONCURRENT, new SetBasedValueGenerator<>(Integer.class, this.values, true).characteristics());
+      Assert.assertEquals(ValueGenerator.CONCURRENT | ValueGenerator.CONSTANT,
+         new SetBasedValueGenerator<>(Integer.class, Collections.singleton(0), true).characteristics());
+   }
+
+   /**
+    * Test for invoking {@link SetBasedValueGenerator#characteristics} with values that contain {@code null}.
+    */
+   @Test
+   public void characteristicsNullValue() {
+      this.values.add(null);
+
+      Assert.assertEquals(ValueGenerator.NULLABLE | ValueGenerator.STATELESS | ValueGenerator.CONCURRENT,
+         new SetBasedValueGenerator<>(Integer.class, this.values, false).characteristics());
+      Assert.assertTrue(new SetBasedValueGenerator<>(Integer.class, this.values, true).canGenerateNull());
+   }
+
    /**
     * Test for attempting to create a {@code SetBasedValueGenerator} with a null values.
     */